@@ -0,0 +1,143 @@
+package com.shippingmanagement.benchmarks.e2e;
+
+import com.shippingmanagement.inventory_service.InventoryServiceApplication;
+import com.shippingmanagement.notification_service.NotificationServiceApplication;
+import com.shippingmanagement.order_service.OrderServiceApplication;
+import com.shippingmanagement.shipping_service.ShippingServiceApplication;
+import com.shippingmanagement.shipping_service.capacity.ShipCapacityIndex;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class EmbeddedStack implements AutoCloseable {
+
+    public static final String LATEST_ORDER_STATUS_TOPIC = "latest-order-status-topic";
+
+    private static final List<String> TOPICS = List.of(
+            "order-intake",
+            "order-intake-dlt",
+            "order-submitted",
+            "order-inventory-retry",
+            "order-inventory-dlt",
+            "shipment-created",
+            "unassigned-shipping-orders-topic",
+            "unassigned-shipping-orders-topic-dlt",
+            "order-status-topic",
+            LATEST_ORDER_STATUS_TOPIC
+    );
+
+    private static final String SCHEMA_REGISTRY_URL = "mock://e2e";
+    private static final int STOCK_PER_PRODUCT = 1_000_000_000;
+
+    private final EmbeddedKafkaBroker broker;
+    private final List<ConfigurableApplicationContext> contexts = new ArrayList<>();
+    private final Path stateDir;
+    private int orderServicePort;
+    private ConfigurableApplicationContext shippingContext;
+
+    private EmbeddedStack(EmbeddedKafkaBroker broker, Path stateDir) {
+        this.broker = broker;
+        this.stateDir = stateDir;
+    }
+
+    public static EmbeddedStack start(LoadSettings settings) throws Exception {
+        EmbeddedKafkaBroker broker = new EmbeddedKafkaKraftBroker(1, settings.partitions(), TOPICS.toArray(String[]::new))
+                .brokerProperties(Map.of(
+                        "transaction.state.log.replication.factor", "1",
+                        "transaction.state.log.min.isr", "1",
+                        "offsets.topic.replication.factor", "1"));
+        broker.afterPropertiesSet();
+
+        EmbeddedStack stack = new EmbeddedStack(broker, Files.createTempDirectory("e2e-kafka-streams"));
+        try {
+            stack.startServices(settings);
+            stack.seed(settings);
+        } catch (Exception e) {
+            stack.close();
+            throw e;
+        }
+        return stack;
+    }
+
+    public String bootstrapServers() {
+        return broker.getBrokersAsString();
+    }
+
+    public String orderServiceUrl() {
+        return "http://localhost:" + orderServicePort;
+    }
+
+    private void startServices(LoadSettings settings) {
+        ConfigurableApplicationContext inventory = startService(InventoryServiceApplication.class, "inventory-service");
+        int inventoryPort = ((WebServerApplicationContext) inventory).getWebServer().getPort();
+
+        ConfigurableApplicationContext order = startService(OrderServiceApplication.class, "order-service",
+                "--app.inventory-service-url=http://localhost:" + inventoryPort,
+                "--app.kafka.order-submitted-format=" + settings.orderSubmittedFormat());
+        orderServicePort = ((WebServerApplicationContext) order).getWebServer().getPort();
+
+        shippingContext = startService(ShippingServiceApplication.class, "shipping-service");
+        startService(NotificationServiceApplication.class, "notification-service",
+                "--spring.kafka.streams.state-dir=" + stateDir.resolve("notification-service"));
+    }
+
+    private ConfigurableApplicationContext startService(Class<?> application, String name, String... overrides) {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.config.location=classpath:/e2e/common.yml,classpath:/e2e/" + name + ".yml",
+                "--spring.kafka.bootstrap-servers=" + broker.getBrokersAsString(),
+                "--spring.kafka.schema-registry-url=" + SCHEMA_REGISTRY_URL
+        ));
+        args.addAll(List.of(overrides));
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(application)
+                .run(args.toArray(String[]::new));
+        contexts.add(context);
+        return context;
+    }
+
+    private void seed(LoadSettings settings) {
+        JdbcTemplate jdbcTemplate = contexts.get(0).getBean(JdbcTemplate.class);
+
+        jdbcTemplate.batchUpdate("INSERT INTO products (name, price) VALUES (?, ?)",
+                IntStream.rangeClosed(1, settings.productCount())
+                        .mapToObj(productId -> new Object[]{"Product " + productId, BigDecimal.TEN})
+                        .collect(Collectors.toList()));
+        jdbcTemplate.batchUpdate("INSERT INTO inventory (product_id, quantity_available) VALUES (?, ?)",
+                IntStream.rangeClosed(1, settings.productCount())
+                        .mapToObj(productId -> new Object[]{productId, STOCK_PER_PRODUCT})
+                        .collect(Collectors.toList()));
+
+        Timestamp departure = Timestamp.valueOf(LocalDateTime.now().plusDays(7));
+        List<Object[]> ships = new ArrayList<>();
+        for (String destination : settings.destinations()) {
+            for (int i = 0; i < settings.shipsPerDestination(); i++) {
+                ships.add(new Object[]{destination, departure});
+            }
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO ship_tracking (destination_country, total_orders, departure_date) VALUES (?, 0, ?)", ships);
+        shippingContext.getBeanProvider(ShipCapacityIndex.class).ifAvailable(ShipCapacityIndex::refresh);
+    }
+
+    @Override
+    public void close() {
+        for (int i = contexts.size() - 1; i >= 0; i--) {
+            contexts.get(i).close();
+        }
+        broker.destroy();
+    }
+}
@@ -0,0 +1,126 @@
+package com.shippingmanagement.benchmarks.e2e;
+
+import org.HdrHistogram.Histogram;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class EndToEndLoadTest {
+
+    private static final double[] PERCENTILES = {50.0, 90.0, 99.0, 99.9};
+
+    public static void main(String[] args) throws Exception {
+        LoadSettings settings = LoadSettings.parse(args);
+        System.out.printf("Starting embedded stack: %d orders/s for %ds after %ds warm-up, %d items per order, %s events%n",
+                settings.ratePerSecond(), settings.durationSeconds(), settings.warmupSeconds(),
+                settings.itemsPerOrder(), settings.orderSubmittedFormat());
+
+        int exitCode;
+        try (EmbeddedStack stack = EmbeddedStack.start(settings);
+             LatencyTracker tracker = new LatencyTracker(stack.bootstrapServers(), EmbeddedStack.LATEST_ORDER_STATUS_TOPIC);
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+
+            HttpClient client = HttpClient.newBuilder()
+                    .executor(executor)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            URI ordersUri = URI.create(stack.orderServiceUrl() + "/api/orders");
+
+            long elapsedNanos = drive(settings, client, ordersUri, tracker);
+            awaitDrain(settings, tracker);
+            report(settings, tracker, elapsedNanos);
+            exitCode = tracker.pendingCount() == 0 ? 0 : 1;
+        }
+        System.exit(exitCode);
+    }
+
+    private static long drive(LoadSettings settings, HttpClient client, URI ordersUri, LatencyTracker tracker) {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / settings.ratePerSecond();
+        long warmupOrders = settings.warmupOrders();
+        long totalOrders = settings.totalOrders();
+        long start = System.nanoTime();
+        long measuredStart = start + warmupOrders * intervalNanos;
+
+        for (long sequence = 0; sequence < totalOrders; sequence++) {
+            long intendedStart = start + sequence * intervalNanos;
+            long delay = intendedStart - System.nanoTime();
+            if (delay > 0) {
+                LockSupport.parkNanos(delay);
+            }
+
+            String customerId = "e2e-" + sequence;
+            boolean measured = sequence >= warmupOrders;
+            HttpRequest request = HttpRequest.newBuilder(ordersUri)
+                    .timeout(Duration.ofSeconds(10))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(orderBody(settings, customerId, sequence)))
+                    .build();
+
+            tracker.expect(customerId, intendedStart, measured);
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> tracker.onResponse(
+                            customerId, intendedStart, measured, response != null ? response.statusCode() : 0, error));
+        }
+        return System.nanoTime() - measuredStart;
+    }
+
+    private static String orderBody(LoadSettings settings, String customerId, long sequence) {
+        String destination = settings.destinations().get((int) (sequence % settings.destinations().size()));
+        String items = IntStream.range(0, settings.itemsPerOrder())
+                .mapToObj(i -> "{\"productId\":" + (1 + ThreadLocalRandom.current().nextInt(settings.productCount()))
+                        + ",\"quantity\":1}")
+                .collect(Collectors.joining(","));
+        return "{\"customerId\":\"" + customerId + "\",\"destinationCountry\":\"" + destination
+                + "\",\"orderItems\":[" + items + "]}";
+    }
+
+    private static void awaitDrain(LoadSettings settings, LatencyTracker tracker) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(settings.drainSeconds());
+        while (tracker.pendingCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+    }
+
+    private static void report(LoadSettings settings, LatencyTracker tracker, long elapsedNanos) {
+        Histogram endToEnd = tracker.endToEndHistogram();
+        Histogram http = tracker.httpHistogram();
+        double elapsedSeconds = elapsedNanos / 1e9;
+
+        System.out.println();
+        System.out.printf("Target rate: %d orders/s, achieved send rate: %.1f orders/s over %.1fs%n",
+                settings.ratePerSecond(), (settings.totalOrders() - settings.warmupOrders()) / elapsedSeconds, elapsedSeconds);
+        System.out.printf("Completed: %d, HTTP errors: %d, still pending after %ds drain: %d%n",
+                endToEnd.getTotalCount(), tracker.httpErrors(), settings.drainSeconds(), tracker.pendingCount());
+        printHistogram("POST /api/orders -> HTTP response", http);
+        printHistogram("POST /api/orders -> latest-order-status-topic", endToEnd);
+
+        Map<String, Long> outcomes = new TreeMap<>(tracker.outcomes());
+        System.out.println("Outcomes:");
+        outcomes.forEach((outcome, count) -> System.out.printf("  %-24s %d%n", outcome, count));
+    }
+
+    private static void printHistogram(String title, Histogram histogram) {
+        System.out.println(title + " (ms):");
+        if (histogram.getTotalCount() == 0) {
+            System.out.println("  no samples");
+            return;
+        }
+        for (double percentile : PERCENTILES) {
+            System.out.printf("  p%-6s %10.2f%n", percentile, histogram.getValueAtPercentile(percentile) / 1000.0);
+        }
+        System.out.printf("  %-7s %10.2f%n", "max", histogram.getMaxValue() / 1000.0);
+        System.out.printf("  %-7s %10.2f%n", "mean", histogram.getMean() / 1000.0);
+    }
+}
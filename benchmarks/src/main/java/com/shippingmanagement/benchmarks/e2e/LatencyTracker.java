@@ -0,0 +1,143 @@
+package com.shippingmanagement.benchmarks.e2e;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.WakeupException;
+import org.apache.kafka.common.serialization.StringDeserializer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+public class LatencyTracker implements AutoCloseable {
+
+    private static final Set<String> TERMINAL_STATUSES =
+            Set.of("SHIPPED_SUCCESSFUL", "NO_SHIP_AVAILABLE", "NO_SHIP_AVAILABLE_DLT", "ORDER_FAILED");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, PendingOrder> pending = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+    private final Recorder endToEndLatency = new Recorder(3);
+    private final Recorder httpLatency = new Recorder(3);
+    private final LongAdder httpErrors = new LongAdder();
+    private final KafkaConsumer<String, String> consumer;
+    private final Thread pollThread;
+    private volatile boolean running = true;
+
+    public LatencyTracker(String bootstrapServers, String topic) {
+        consumer = new KafkaConsumer<>(Map.<String, Object>of(
+                ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers,
+                ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false",
+                ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest"
+        ), new StringDeserializer(), new StringDeserializer());
+
+        List<TopicPartition> partitions = consumer.partitionsFor(topic).stream()
+                .map(info -> new TopicPartition(topic, info.partition()))
+                .collect(Collectors.toList());
+        consumer.assign(partitions);
+        consumer.seekToEnd(partitions);
+        partitions.forEach(consumer::position);
+
+        pollThread = new Thread(this::poll, "e2e-latest-status-consumer");
+        pollThread.setDaemon(true);
+        pollThread.start();
+    }
+
+    public void expect(String customerId, long intendedStartNanos, boolean measured) {
+        pending.put(customerId, new PendingOrder(intendedStartNanos, measured));
+    }
+
+    public void onResponse(String customerId, long intendedStartNanos, boolean measured, int statusCode, Throwable error) {
+        if (measured) {
+            httpLatency.recordValue(toMicros(System.nanoTime() - intendedStartNanos));
+        }
+        if (error != null || statusCode >= 300) {
+            httpErrors.increment();
+            pending.remove(customerId);
+            outcomes.computeIfAbsent(error != null ? "HTTP_ERROR" : "HTTP_" + statusCode, key -> new LongAdder()).increment();
+        }
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    public Histogram endToEndHistogram() {
+        return endToEndLatency.getIntervalHistogram();
+    }
+
+    public Histogram httpHistogram() {
+        return httpLatency.getIntervalHistogram();
+    }
+
+    public Map<String, Long> outcomes() {
+        return outcomes.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().sum()));
+    }
+
+    public long httpErrors() {
+        return httpErrors.sum();
+    }
+
+    private void poll() {
+        try {
+            while (running) {
+                for (ConsumerRecord<String, String> record : consumer.poll(Duration.ofMillis(100))) {
+                    onStatus(record.value());
+                }
+            }
+        } catch (WakeupException e) {
+            if (running) {
+                throw e;
+            }
+        } finally {
+            consumer.close();
+        }
+    }
+
+    private void onStatus(String value) {
+        long receivedNanos = System.nanoTime();
+        try {
+            JsonNode status = objectMapper.readTree(value);
+            String statusName = status.path("status").asText();
+            if (!TERMINAL_STATUSES.contains(statusName)) {
+                return;
+            }
+            PendingOrder order = pending.remove(status.path("customerId").asText());
+            if (order == null) {
+                return;
+            }
+            if (order.measured()) {
+                endToEndLatency.recordValue(toMicros(receivedNanos - order.intendedStartNanos()));
+            }
+            outcomes.computeIfAbsent(statusName, key -> new LongAdder()).increment();
+        } catch (Exception e) {
+            outcomes.computeIfAbsent("UNPARSEABLE", key -> new LongAdder()).increment();
+        }
+    }
+
+    private static long toMicros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(Math.max(nanos, 0));
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        consumer.wakeup();
+        pollThread.join();
+    }
+
+    private record PendingOrder(long intendedStartNanos, boolean measured) {
+    }
+}
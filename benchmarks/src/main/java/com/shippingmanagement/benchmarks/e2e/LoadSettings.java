@@ -0,0 +1,51 @@
+package com.shippingmanagement.benchmarks.e2e;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public record LoadSettings(
+        int ratePerSecond,
+        int durationSeconds,
+        int warmupSeconds,
+        int drainSeconds,
+        int itemsPerOrder,
+        int productCount,
+        int shipsPerDestination,
+        int partitions,
+        List<String> destinations,
+        String orderSubmittedFormat) {
+
+    public static LoadSettings parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String option = arg.startsWith("--") ? arg.substring(2) : arg;
+            int separator = option.indexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            options.put(option.substring(0, separator), option.substring(separator + 1));
+        }
+
+        return new LoadSettings(
+                Integer.parseInt(options.getOrDefault("rate", "100")),
+                Integer.parseInt(options.getOrDefault("duration-seconds", "60")),
+                Integer.parseInt(options.getOrDefault("warmup-seconds", "10")),
+                Integer.parseInt(options.getOrDefault("drain-seconds", "30")),
+                Integer.parseInt(options.getOrDefault("items-per-order", "3")),
+                Integer.parseInt(options.getOrDefault("products", "50")),
+                Integer.parseInt(options.getOrDefault("ships-per-destination", "2")),
+                Integer.parseInt(options.getOrDefault("partitions", "3")),
+                Arrays.asList(options.getOrDefault("destinations", "Germany,France,Spain,Italy,Netherlands").split(",")),
+                options.getOrDefault("order-submitted-format", "json"));
+    }
+
+    public long warmupOrders() {
+        return (long) ratePerSecond * warmupSeconds;
+    }
+
+    public long totalOrders() {
+        return (long) ratePerSecond * (warmupSeconds + durationSeconds);
+    }
+}
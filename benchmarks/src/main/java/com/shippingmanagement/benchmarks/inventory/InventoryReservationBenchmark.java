@@ -0,0 +1,105 @@
+package com.shippingmanagement.benchmarks.inventory;
+
+import com.shippingmanagement.benchmarks.BenchmarkContexts;
+import com.shippingmanagement.inventory_service.cache.InventoryAvailabilityCache;
+import com.shippingmanagement.inventory_service.dto.InventoryResponse;
+import com.shippingmanagement.inventory_service.dto.OrderItemRequestDto;
+import com.shippingmanagement.inventory_service.model.Inventory;
+import com.shippingmanagement.inventory_service.repository.InventoryRepository;
+import com.shippingmanagement.inventory_service.repository.InventoryReservationRepository;
+import com.shippingmanagement.inventory_service.service.InventoryService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@Threads(16)
+public class InventoryReservationBenchmark {
+
+    private static final int STOCK_PER_PRODUCT = 1_000_000_000;
+
+    @Param({"1", "100"})
+    private int hotProducts;
+
+    private ConfigurableApplicationContext context;
+    private InventoryService inventoryService;
+    private InventoryRepository inventoryRepository;
+    private TransactionTemplate transactionTemplate;
+    private JdbcTemplate jdbcTemplate;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = BenchmarkContexts.start(ReservationBenchmarkConfiguration.class, "inventory_reservation_benchmark",
+                "app.inventory.cache.max-size=10000",
+                "app.inventory.cache.ttl-ms=2000",
+                "app.inventory.reservation-keys.retention-hours=168",
+                "app.inventory.reservation-keys.purge-interval-ms=3600000");
+        inventoryService = context.getBean(InventoryService.class);
+        inventoryRepository = context.getBean(InventoryRepository.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        jdbcTemplate.batchUpdate("INSERT INTO inventory (product_id, quantity_available) VALUES (?, ?)",
+                IntStream.rangeClosed(1, hotProducts)
+                        .mapToObj(productId -> new Object[]{productId, STOCK_PER_PRODUCT})
+                        .collect(Collectors.toList()));
+    }
+
+    @Setup(Level.Iteration)
+    public void restock() {
+        jdbcTemplate.update("UPDATE inventory SET quantity_available = ?", STOCK_PER_PRODUCT);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<InventoryResponse> conditionalUpdate() {
+        return inventoryService.checkAndReduceInventory(List.of(nextItem()));
+    }
+
+    @Benchmark
+    public boolean readModifyWrite() {
+        OrderItemRequestDto item = nextItem();
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            Inventory inventory = inventoryRepository.findByProductId(item.getProductId());
+            if (inventory == null || inventory.getQuantity() < item.getQuantity()) {
+                return false;
+            }
+            inventory.setQuantity(inventory.getQuantity() - item.getQuantity());
+            inventoryRepository.save(inventory);
+            return true;
+        }));
+    }
+
+    private OrderItemRequestDto nextItem() {
+        return new OrderItemRequestDto(1 + ThreadLocalRandom.current().nextInt(hotProducts), 1);
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EntityScan(basePackageClasses = Inventory.class)
+    @EnableJpaRepositories(basePackageClasses = InventoryRepository.class)
+    @Import({InventoryService.class, InventoryReservationRepository.class, InventoryAvailabilityCache.class})
+    static class ReservationBenchmarkConfiguration {
+    }
+}
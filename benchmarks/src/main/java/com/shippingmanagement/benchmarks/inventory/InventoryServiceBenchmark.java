@@ -0,0 +1,92 @@
+package com.shippingmanagement.benchmarks.inventory;
+
+import com.shippingmanagement.benchmarks.BenchmarkContexts;
+import com.shippingmanagement.inventory_service.cache.InventoryAvailabilityCache;
+import com.shippingmanagement.inventory_service.dto.InventoryResponse;
+import com.shippingmanagement.inventory_service.dto.OrderItemRequestDto;
+import com.shippingmanagement.inventory_service.model.Inventory;
+import com.shippingmanagement.inventory_service.repository.InventoryRepository;
+import com.shippingmanagement.inventory_service.repository.InventoryReservationRepository;
+import com.shippingmanagement.inventory_service.service.InventoryService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class InventoryServiceBenchmark {
+
+    private static final int PRODUCT_COUNT = 1000;
+    private static final int STOCK_PER_PRODUCT = 1_000_000_000;
+
+    @Param({"1", "5", "20"})
+    private int itemsPerOrder;
+
+    private ConfigurableApplicationContext context;
+    private InventoryService inventoryService;
+    private JdbcTemplate jdbcTemplate;
+    private List<List<OrderItemRequestDto>> orders;
+    private int nextOrder;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = BenchmarkContexts.start(InventoryBenchmarkConfiguration.class, "inventory_benchmark",
+                "app.inventory.cache.max-size=10000",
+                "app.inventory.cache.ttl-ms=2000",
+                "app.inventory.reservation-keys.retention-hours=168",
+                "app.inventory.reservation-keys.purge-interval-ms=3600000");
+        inventoryService = context.getBean(InventoryService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        jdbcTemplate.batchUpdate("INSERT INTO inventory (product_id, quantity_available) VALUES (?, ?)",
+                IntStream.rangeClosed(1, PRODUCT_COUNT)
+                        .mapToObj(productId -> new Object[]{productId, STOCK_PER_PRODUCT})
+                        .collect(Collectors.toList()));
+
+        Random random = new Random(42);
+        orders = IntStream.range(0, 4096)
+                .mapToObj(i -> IntStream.range(0, itemsPerOrder)
+                        .mapToObj(item -> new OrderItemRequestDto(1 + random.nextInt(PRODUCT_COUNT), 1))
+                        .collect(Collectors.toList()))
+                .collect(Collectors.toList());
+    }
+
+    @Setup(Level.Iteration)
+    public void restock() {
+        jdbcTemplate.update("UPDATE inventory SET quantity_available = ?", STOCK_PER_PRODUCT);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<InventoryResponse> checkAndReduceInventory() {
+        List<OrderItemRequestDto> order = orders.get(nextOrder++ & (orders.size() - 1));
+        return inventoryService.checkAndReduceInventory(order);
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EntityScan(basePackageClasses = Inventory.class)
+    @EnableJpaRepositories(basePackageClasses = InventoryRepository.class)
+    @Import({InventoryService.class, InventoryReservationRepository.class, InventoryAvailabilityCache.class})
+    static class InventoryBenchmarkConfiguration {
+    }
+}
@@ -0,0 +1,30 @@
+package com.shippingmanagement.benchmarks.notification;
+
+import com.shippingmanagement.notification_service.dto.OrderStatus;
+import com.shippingmanagement.notification_service.util.StatusCodeMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class StatusCodeMapperBenchmark {
+
+    private final StatusCodeMapper statusCodeMapper = new StatusCodeMapper();
+    private final OrderStatus[] statuses = OrderStatus.values();
+    private int next;
+
+    @Benchmark
+    public Integer getStatusId() {
+        return statusCodeMapper.getStatusId(statuses[next++ % statuses.length]);
+    }
+
+    @Benchmark
+    public OrderStatus getStatusFromCode() {
+        return statusCodeMapper.getStatusFromCode(1 + next++ % 6);
+    }
+}
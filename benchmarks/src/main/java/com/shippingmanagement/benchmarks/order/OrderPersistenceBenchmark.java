@@ -0,0 +1,132 @@
+package com.shippingmanagement.benchmarks.order;
+
+import com.shippingmanagement.benchmarks.BenchmarkContexts;
+import com.shippingmanagement.order_service.model.Order;
+import com.shippingmanagement.order_service.model.OrderItem;
+import com.shippingmanagement.order_service.repository.OrderRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class OrderPersistenceBenchmark {
+
+    private static final String MYSQL_URL_PROPERTY = "benchmark.mysql.url";
+    private static final String MYSQL_IMAGE = "mysql:8.0";
+
+    @Param({"1", "10", "100"})
+    private int itemsPerOrder;
+
+    @Param({"identity", "pooled-sequence"})
+    private String idGeneration;
+
+    @Param({"false", "true"})
+    private boolean rewriteBatchedStatements;
+
+    private MySQLContainer<?> mysql;
+    private ConfigurableApplicationContext context;
+    private OrderRepository orderRepository;
+    private TransactionTemplate transactionTemplate;
+    private JdbcTemplate jdbcTemplate;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        String url = System.getProperty(MYSQL_URL_PROPERTY);
+        String username = System.getProperty("benchmark.mysql.username", "root");
+        String password = System.getProperty("benchmark.mysql.password", "");
+        if (url == null) {
+            mysql = new MySQLContainer<>(MYSQL_IMAGE);
+            mysql.start();
+            url = mysql.getJdbcUrl();
+            username = mysql.getUsername();
+            password = mysql.getPassword();
+        }
+
+        List<String> properties = new ArrayList<>(List.of(
+                "spring.datasource.url=" + url + (url.contains("?") ? "&" : "?")
+                        + "rewriteBatchedStatements=" + rewriteBatchedStatements,
+                "spring.datasource.username=" + username,
+                "spring.datasource.password=" + password,
+                "spring.datasource.driver-class-name=com.mysql.cj.jdbc.Driver"));
+        if ("identity".equals(idGeneration)) {
+            properties.add("spring.jpa.mapping-resources=order/identity-orm.xml");
+        }
+        context = BenchmarkContexts.start(OrderPersistenceBenchmarkConfiguration.class, "order_benchmark",
+                properties.toArray(String[]::new));
+        orderRepository = context.getBean(OrderRepository.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+    }
+
+    @Setup(Level.Iteration)
+    public void clearOrders() {
+        jdbcTemplate.update("DELETE FROM order_items");
+        jdbcTemplate.update("DELETE FROM orders");
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+        if (mysql != null) {
+            mysql.stop();
+        }
+    }
+
+    @Benchmark
+    public Order saveOrder(RowCounter counter) {
+        Order order = Order.builder()
+                .customerId("customer-42")
+                .destinationCountry("Germany")
+                .createdAt(LocalDateTime.now())
+                .build();
+        List<OrderItem> items = IntStream.range(0, itemsPerOrder)
+                .mapToObj(i -> OrderItem.builder()
+                        .productId(1 + i % 6)
+                        .quantity(1)
+                        .order(order)
+                        .build())
+                .collect(Collectors.toList());
+        order.setOrderItems(items);
+
+        Order saved = transactionTemplate.execute(status -> orderRepository.save(order));
+        counter.rows += 1 + itemsPerOrder;
+        return saved;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class RowCounter {
+
+        public long rows;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            rows = 0;
+        }
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EntityScan(basePackageClasses = Order.class)
+    @EnableJpaRepositories(basePackageClasses = OrderRepository.class)
+    static class OrderPersistenceBenchmarkConfiguration {
+    }
+}
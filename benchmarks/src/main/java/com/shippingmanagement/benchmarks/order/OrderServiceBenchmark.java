@@ -0,0 +1,133 @@
+package com.shippingmanagement.benchmarks.order;
+
+import com.shippingmanagement.benchmarks.BenchmarkContexts;
+import com.shippingmanagement.order_service.client.InventoryBatcher;
+import com.shippingmanagement.order_service.client.InventoryClient;
+import com.shippingmanagement.order_service.dto.OrderItemRequestDto;
+import com.shippingmanagement.order_service.dto.OrderRequest;
+import com.shippingmanagement.order_service.metrics.OrderMetrics;
+import com.shippingmanagement.order_service.model.Order;
+import com.shippingmanagement.order_service.outbox.OutboxService;
+import com.shippingmanagement.order_service.repository.OrderRepository;
+import com.shippingmanagement.order_service.resilience.InventoryCallGuard;
+import com.shippingmanagement.order_service.service.OrderService;
+import io.confluent.kafka.schemaregistry.client.MockSchemaRegistryClient;
+import io.confluent.kafka.serializers.AbstractKafkaSchemaSerDeConfig;
+import io.confluent.kafka.serializers.KafkaAvroSerializer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class OrderServiceBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int itemsPerOrder;
+
+    @Param({"json", "avro"})
+    private String orderSubmittedFormat;
+
+    private ConfigurableApplicationContext context;
+    private OrderService orderService;
+    private JdbcTemplate jdbcTemplate;
+    private OrderRequest orderRequest;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = BenchmarkContexts.start(OrderServiceBenchmarkConfiguration.class, "order_service_benchmark",
+                "app.kafka.order-submitted-format=" + orderSubmittedFormat,
+                "app.kafka.topics.order-submitted=order-submitted",
+                "app.kafka.topics.order-inventory-dlt=order-inventory-dlt",
+                "app.metrics.tracked-destinations=Germany,France,Spain,Italy,Netherlands",
+                "app.inventory-batch.enabled=false",
+                "app.inventory-batch.max-size=100",
+                "app.inventory-batch.max-wait-ms=10",
+                "app.inventory-client.resilience.circuit-breaker.window-size=100",
+                "app.inventory-client.resilience.circuit-breaker.minimum-calls=20",
+                "app.inventory-client.resilience.circuit-breaker.failure-rate-threshold=50",
+                "app.inventory-client.resilience.circuit-breaker.open-duration-ms=5000",
+                "app.inventory-client.resilience.circuit-breaker.half-open-calls=5",
+                "app.inventory-client.resilience.bulkhead.max-concurrent=200",
+                "app.inventory-client.resilience.limiter.initial-limit=20",
+                "app.inventory-client.resilience.limiter.min-limit=4",
+                "app.inventory-client.resilience.limiter.max-limit=200",
+                "app.inventory-client.resilience.limiter.backoff-ratio=0.9",
+                "app.inventory-client.resilience.limiter.latency-tolerance=2.0");
+        orderService = context.getBean(OrderService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        Random random = new Random(42);
+        List<OrderItemRequestDto> orderItems = IntStream.range(0, itemsPerOrder)
+                .mapToObj(i -> new OrderItemRequestDto(1 + random.nextInt(6), 1 + random.nextInt(5)))
+                .collect(Collectors.toList());
+        orderRequest = new OrderRequest("customer-42", "Germany", orderItems);
+    }
+
+    @Setup(Level.Iteration)
+    public void clearOrders() {
+        jdbcTemplate.update("DELETE FROM order_outbox");
+        jdbcTemplate.update("DELETE FROM order_items");
+        jdbcTemplate.update("DELETE FROM orders");
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+
+    @Benchmark
+    public void createOrder() {
+        orderService.createOrder(orderRequest);
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EntityScan(basePackageClasses = Order.class)
+    @EnableJpaRepositories(basePackageClasses = OrderRepository.class)
+    @Import({OrderService.class, OutboxService.class, OrderMetrics.class, InventoryClient.class,
+            InventoryBatcher.class, InventoryCallGuard.class})
+    static class OrderServiceBenchmarkConfiguration {
+
+        @Bean
+        WebClient inventoryWebClient() {
+            return WebClient.builder()
+                    .exchangeFunction(request -> Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body("[{\"productId\":1,\"inStock\":true}]")
+                            .build()))
+                    .build();
+        }
+
+        @Bean(destroyMethod = "close")
+        KafkaAvroSerializer outboxAvroSerializer() {
+            KafkaAvroSerializer serializer = new KafkaAvroSerializer(new MockSchemaRegistryClient());
+            serializer.configure(Map.of(AbstractKafkaSchemaSerDeConfig.SCHEMA_REGISTRY_URL_CONFIG, "mock://benchmarks"),
+                    false);
+            return serializer;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.shippingmanagement.benchmarks.serialization;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shippingmanagement.order_service.avro.OrderSubmitted;
+import com.shippingmanagement.order_service.avro.OrderSubmittedItem;
+import com.shippingmanagement.order_service.dto.OrderItemRequestDto;
+import com.shippingmanagement.order_service.event.OrderPlacedEvent;
+import com.shippingmanagement.shipping_service.avro.ShipmentCreated;
+import io.confluent.kafka.schemaregistry.client.MockSchemaRegistryClient;
+import io.confluent.kafka.serializers.AbstractKafkaSchemaSerDeConfig;
+import io.confluent.kafka.serializers.KafkaAvroDeserializer;
+import io.confluent.kafka.serializers.KafkaAvroSerializer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.kafka.support.JacksonUtils;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class EventSerializationBenchmark {
+
+    private static final String ORDER_TOPIC = "order-submitted";
+    private static final String SHIPMENT_TOPIC = "shipment-created";
+
+    @Param({"1", "10", "100"})
+    private int itemsPerOrder;
+
+    private final ObjectMapper objectMapper = JacksonUtils.enhancedObjectMapper();
+    private KafkaAvroSerializer avroSerializer;
+    private KafkaAvroDeserializer avroDeserializer;
+
+    private OrderPlacedEvent orderPlacedEvent;
+    private OrderSubmitted orderSubmitted;
+    private ShipmentCreatedJson shipmentCreatedJson;
+    private ShipmentCreated shipmentCreated;
+
+    private byte[] orderJson;
+    private byte[] orderAvro;
+    private byte[] shipmentJson;
+    private byte[] shipmentAvro;
+
+    @Setup
+    public void setUp() throws Exception {
+        MockSchemaRegistryClient schemaRegistry = new MockSchemaRegistryClient();
+        Map<String, Object> config = Map.of(
+                AbstractKafkaSchemaSerDeConfig.SCHEMA_REGISTRY_URL_CONFIG, "mock://benchmarks",
+                "specific.avro.reader", true);
+        avroSerializer = new KafkaAvroSerializer(schemaRegistry);
+        avroSerializer.configure(config, false);
+        avroDeserializer = new KafkaAvroDeserializer(schemaRegistry);
+        avroDeserializer.configure(config, false);
+
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 15, 10, 30, 45);
+        Instant createdAtInstant = createdAt.atZone(ZoneId.systemDefault()).toInstant();
+        List<OrderItemRequestDto> items = IntStream.range(0, itemsPerOrder)
+                .mapToObj(i -> new OrderItemRequestDto(1 + i % 6, 1 + i % 5))
+                .collect(Collectors.toList());
+
+        orderPlacedEvent = new OrderPlacedEvent(1000, "customer-42", "Germany", createdAt, items);
+        orderSubmitted = OrderSubmitted.newBuilder()
+                .setOrderId(1000)
+                .setCustomerId("customer-42")
+                .setDestinationCountry("Germany")
+                .setCreatedAt(createdAtInstant)
+                .setOrderItems(items.stream()
+                        .map(item -> new OrderSubmittedItem(item.getProductId(), item.getQuantity()))
+                        .collect(Collectors.toList()))
+                .build();
+
+        shipmentCreatedJson = new ShipmentCreatedJson("8a6f1c2e-7d4b-4f5e-9a1b-3c2d1e0f9a8b", 1000, "customer-42",
+                "Germany", 7, createdAt.plusDays(7), createdAt);
+        shipmentCreated = ShipmentCreated.newBuilder()
+                .setShipmentId(shipmentCreatedJson.shipmentId())
+                .setOrderId(1000)
+                .setCustomerId("customer-42")
+                .setDestinationCountry("Germany")
+                .setShipId(7)
+                .setDepartureDate(createdAtInstant.plusSeconds(7 * 24 * 3600))
+                .setCreatedAt(createdAtInstant)
+                .build();
+
+        orderJson = objectMapper.writeValueAsBytes(orderPlacedEvent);
+        orderAvro = avroSerializer.serialize(ORDER_TOPIC, orderSubmitted);
+        shipmentJson = objectMapper.writeValueAsBytes(shipmentCreatedJson);
+        shipmentAvro = avroSerializer.serialize(SHIPMENT_TOPIC, shipmentCreated);
+
+        System.out.printf("%nPayload bytes with %d items: order json=%d avro=%d, shipment json=%d avro=%d%n",
+                itemsPerOrder, orderJson.length, orderAvro.length, shipmentJson.length, shipmentAvro.length);
+    }
+
+    @Benchmark
+    public byte[] orderSerializeJson() throws Exception {
+        return objectMapper.writeValueAsBytes(orderPlacedEvent);
+    }
+
+    @Benchmark
+    public byte[] orderSerializeAvro() {
+        return avroSerializer.serialize(ORDER_TOPIC, orderSubmitted);
+    }
+
+    @Benchmark
+    public OrderPlacedEvent orderDeserializeJson() throws Exception {
+        return objectMapper.readValue(orderJson, OrderPlacedEvent.class);
+    }
+
+    @Benchmark
+    public Object orderDeserializeAvro() {
+        return avroDeserializer.deserialize(ORDER_TOPIC, orderAvro);
+    }
+
+    @Benchmark
+    public byte[] shipmentSerializeJson() throws Exception {
+        return objectMapper.writeValueAsBytes(shipmentCreatedJson);
+    }
+
+    @Benchmark
+    public byte[] shipmentSerializeAvro() {
+        return avroSerializer.serialize(SHIPMENT_TOPIC, shipmentCreated);
+    }
+
+    @Benchmark
+    public ShipmentCreatedJson shipmentDeserializeJson() throws Exception {
+        return objectMapper.readValue(shipmentJson, ShipmentCreatedJson.class);
+    }
+
+    @Benchmark
+    public Object shipmentDeserializeAvro() {
+        return avroDeserializer.deserialize(SHIPMENT_TOPIC, shipmentAvro);
+    }
+
+    public record ShipmentCreatedJson(String shipmentId, int orderId, String customerId, String destinationCountry,
+                                      int shipId, LocalDateTime departureDate, LocalDateTime createdAt) {
+    }
+}
@@ -0,0 +1,98 @@
+package com.shippingmanagement.benchmarks.shipping;
+
+import com.shippingmanagement.benchmarks.BenchmarkContexts;
+import com.shippingmanagement.shipping_service.dto.ShipLoad;
+import com.shippingmanagement.shipping_service.model.ShipTracking;
+import com.shippingmanagement.shipping_service.repository.ShipRepository;
+import com.shippingmanagement.shipping_service.repository.ShipmentBatchRepository;
+import com.shippingmanagement.shipping_service.service.ShipmentService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class ShipmentServiceBenchmark {
+
+    private static final String[] DESTINATIONS = {"Germany", "France", "Spain", "Italy", "Netherlands"};
+    private static final int BATCH_SIZE = 100;
+
+    @Param({"1", "10"})
+    private int shipsPerDestination;
+
+    private ConfigurableApplicationContext context;
+    private ShipmentService shipmentService;
+    private JdbcTemplate jdbcTemplate;
+    private int nextOrderId;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = BenchmarkContexts.start(ShipmentBenchmarkConfiguration.class, "shipment_benchmark");
+        shipmentService = context.getBean(ShipmentService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        List<ShipTracking> ships = new ArrayList<>();
+        for (String destination : DESTINATIONS) {
+            for (int i = 0; i < shipsPerDestination; i++) {
+                ships.add(ShipTracking.builder()
+                        .destinationCountry(destination)
+                        .totalOrders(0)
+                        .departureDate(LocalDateTime.now().plusDays(7))
+                        .orderShipments(new ArrayList<>())
+                        .build());
+            }
+        }
+        context.getBean(ShipRepository.class).saveAll(ships);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetAssignments() {
+        jdbcTemplate.update("DELETE FROM order_shipment");
+        jdbcTemplate.update("UPDATE ship_tracking SET total_orders = 0");
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<ShipTracking> assignOrderToShip() {
+        int orderId = ++nextOrderId;
+        return shipmentService.assignOrderToShip(orderId, DESTINATIONS[orderId % DESTINATIONS.length]);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public Map<Integer, ShipLoad> assignOrdersToShipsInBatch() {
+        List<Integer> orderIds = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            orderIds.add(++nextOrderId);
+        }
+        return shipmentService.assignOrdersToShips(DESTINATIONS[nextOrderId % DESTINATIONS.length], orderIds);
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EntityScan(basePackageClasses = ShipTracking.class)
+    @EnableJpaRepositories(basePackageClasses = ShipRepository.class)
+    @Import({ShipmentService.class, ShipmentBatchRepository.class})
+    static class ShipmentBenchmarkConfiguration {
+    }
+}
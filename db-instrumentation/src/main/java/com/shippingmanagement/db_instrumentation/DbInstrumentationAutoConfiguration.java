@@ -0,0 +1,72 @@
+package com.shippingmanagement.db_instrumentation;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import java.util.Set;
+
+@AutoConfiguration
+@ConditionalOnClass(RepositoryFactoryBeanSupport.class)
+@ConditionalOnProperty(name = "app.db-instrumentation.enabled", havingValue = "true", matchIfMissing = true)
+public class DbInstrumentationAutoConfiguration {
+
+    private static final Set<String> HISTOGRAM_METERS = Set.of(
+            "spring.data.repository.invocations",
+            "hikaricp.connections.acquire",
+            "hikaricp.connections.usage"
+    );
+
+    @Bean
+    public SlowRepositoryInvocationListener slowRepositoryInvocationListener(
+            @Value("${app.db-instrumentation.slow-repository-threshold-ms:100}") long thresholdMs) {
+        return new SlowRepositoryInvocationListener(thresholdMs);
+    }
+
+    @Bean
+    public static BeanPostProcessor slowRepositoryInvocationListenerPostProcessor(
+            ObjectProvider<SlowRepositoryInvocationListener> slowRepositoryInvocationListener) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> repositoryFactoryBean) {
+                    repositoryFactoryBean.addRepositoryFactoryCustomizer(repositoryFactory ->
+                            repositoryFactory.addInvocationListener(slowRepositoryInvocationListener.getObject()));
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer slowQueryLoggingCustomizer(
+            @Value("${app.db-instrumentation.slow-query-threshold-ms:100}") long thresholdMs) {
+        return hibernateProperties -> hibernateProperties.put("hibernate.log_slow_query", thresholdMs);
+    }
+
+    @Bean
+    public MeterFilter dbLatencyHistogramFilter() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!HISTOGRAM_METERS.contains(id.getName())) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .percentiles(0.5, 0.95, 0.99)
+                        .percentilesHistogram(true)
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+}
@@ -0,0 +1,29 @@
+package com.shippingmanagement.db_instrumentation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener;
+
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+public class SlowRepositoryInvocationListener implements RepositoryMethodInvocationListener {
+
+    private final long thresholdMs;
+
+    public SlowRepositoryInvocationListener(long thresholdMs) {
+        this.thresholdMs = thresholdMs;
+    }
+
+    @Override
+    public void afterInvocation(RepositoryMethodInvocation invocation) {
+        long durationMs = invocation.getDuration(TimeUnit.MILLISECONDS);
+        if (durationMs < thresholdMs) {
+            return;
+        }
+        log.warn("Slow repository call {}.{} took {} ms ({})",
+                invocation.getRepositoryInterface().getSimpleName(),
+                invocation.getMethod().getName(),
+                durationMs,
+                invocation.getResult().getState());
+    }
+}
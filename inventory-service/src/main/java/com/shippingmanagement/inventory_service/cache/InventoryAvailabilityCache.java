@@ -0,0 +1,71 @@
+package com.shippingmanagement.inventory_service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.shippingmanagement.inventory_service.model.Inventory;
+import com.shippingmanagement.inventory_service.repository.InventoryRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Component
+@Slf4j
+public class InventoryAvailabilityCache implements MeterBinder {
+
+    private final InventoryRepository inventoryRepository;
+    private final Cache<Integer, Integer> quantityByProductId;
+
+    public InventoryAvailabilityCache(InventoryRepository inventoryRepository,
+                                      @Value("${app.inventory.cache.max-size}") long maxSize,
+                                      @Value("${app.inventory.cache.ttl-ms}") long ttlMs) {
+        this.inventoryRepository = inventoryRepository;
+        this.quantityByProductId = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .recordStats()
+                .build();
+    }
+
+    public Map<Integer, Integer> getQuantities(Collection<Integer> productIds) {
+        return quantityByProductId.getAll(productIds, this::loadQuantities);
+    }
+
+    private Map<Integer, Integer> loadQuantities(Set<? extends Integer> productIds) {
+        log.info("Loading {} products into availability cache", productIds.size());
+        Map<Integer, Integer> loaded = new HashMap<>();
+        productIds.forEach(productId -> loaded.put(productId, 0));
+        List<Inventory> rows = inventoryRepository.findByProductIdIn(List.copyOf(productIds));
+        rows.forEach(row -> loaded.put(row.getProductId(), row.getQuantity()));
+        return loaded;
+    }
+
+    public void invalidateAfterCommit(Collection<Integer> productIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            quantityByProductId.invalidateAll(productIds);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                quantityByProductId.invalidateAll(productIds);
+            }
+        });
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, quantityByProductId, "inventory-availability");
+    }
+}
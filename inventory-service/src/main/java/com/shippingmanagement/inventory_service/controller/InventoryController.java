@@ -1,8 +1,13 @@
 package com.shippingmanagement.inventory_service.controller;
 
+import com.shippingmanagement.inventory_service.dto.BatchOrderRequestDto;
+import com.shippingmanagement.inventory_service.dto.BatchOrderResponseDto;
 import com.shippingmanagement.inventory_service.dto.InventoryResponse;
 import com.shippingmanagement.inventory_service.dto.OrderItemRequestDto;
+import com.shippingmanagement.inventory_service.ledger.StockLedger;
 import com.shippingmanagement.inventory_service.service.InventoryService;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -10,6 +15,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/inventory")
@@ -18,11 +24,16 @@ import java.util.List;
 public class InventoryController {
 
     private final InventoryService inventoryService;
+    private final Optional<StockLedger> stockLedger;
 
     @PostMapping("/check")
-    public ResponseEntity<List<InventoryResponse>> checkInventory(@RequestBody List<OrderItemRequestDto> orderItems) {
+    public ResponseEntity<List<InventoryResponse>> checkInventory(
+            @RequestBody List<OrderItemRequestDto> orderItems,
+            @RequestHeader(name = "Idempotency-Key", required = false) String reservationKey) {
         log.info("Received request to check inventory");
-        List<InventoryResponse> inventoryResponses = inventoryService.checkAndReduceInventory(orderItems);
+        List<InventoryResponse> inventoryResponses = stockLedger
+                .map(ledger -> ledger.checkAndReduceInventory(orderItems, reservationKey))
+                .orElseGet(() -> inventoryService.checkAndReduceInventory(orderItems, reservationKey));
         if (inventoryResponses.stream().anyMatch(response -> !response.isInStock())) {
             log.info("Product not enough in inventory");
             return ResponseEntity.badRequest().body(inventoryResponses);
@@ -30,4 +41,23 @@ public class InventoryController {
 
         return ResponseEntity.ok(inventoryResponses);
     }
-}
\ No newline at end of file
+
+    @PostMapping("/check/batch")
+    public ResponseEntity<List<BatchOrderResponseDto>> checkInventoryBatch(
+            @Valid @RequestBody @NotEmpty List<@Valid BatchOrderRequestDto> orders) {
+        log.info("Received request to check inventory for {} orders", orders.size());
+        List<BatchOrderResponseDto> results = stockLedger
+                .map(ledger -> ledger.checkAndReduceInventoryBatch(orders))
+                .orElseGet(() -> inventoryService.checkAndReduceInventoryBatch(orders));
+        return ResponseEntity.ok(results);
+    }
+
+    @GetMapping("/availability")
+    public ResponseEntity<List<InventoryResponse>> checkAvailability(@RequestParam List<Integer> productIds,
+                                                                     @RequestParam(defaultValue = "1") int quantity) {
+        List<InventoryResponse> inventoryResponses = stockLedger
+                .map(ledger -> ledger.checkAvailability(productIds, quantity))
+                .orElseGet(() -> inventoryService.checkAvailability(productIds, quantity));
+        return ResponseEntity.ok(inventoryResponses);
+    }
+}
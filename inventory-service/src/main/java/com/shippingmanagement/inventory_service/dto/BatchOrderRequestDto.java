@@ -0,0 +1,25 @@
+package com.shippingmanagement.inventory_service.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchOrderRequestDto {
+
+    @NotNull(message = "Order reference must be provided")
+    private String orderRef;
+
+    @NotEmpty(message = "Order must contain at least one item")
+    @Valid
+    private List<OrderItemRequestDto> orderItems;
+
+    private String reservationKey;
+}
@@ -0,0 +1,16 @@
+package com.shippingmanagement.inventory_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchOrderResponseDto {
+    private String orderRef;
+    private boolean inStock;
+    private List<InventoryResponse> items;
+}
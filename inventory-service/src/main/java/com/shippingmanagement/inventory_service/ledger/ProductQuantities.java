@@ -0,0 +1,94 @@
+package com.shippingmanagement.inventory_service.ledger;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+class ProductQuantities {
+
+    static final int ABSENT = -1;
+
+    private final int[] productIds;
+    private final boolean[] occupied;
+    private final AtomicIntegerArray quantities;
+    private final int mask;
+    private int size;
+
+    private ProductQuantities(int capacity) {
+        this.productIds = new int[capacity];
+        this.occupied = new boolean[capacity];
+        this.quantities = new AtomicIntegerArray(capacity);
+        this.mask = capacity - 1;
+    }
+
+    static ProductQuantities of(Map<Integer, Integer> quantityByProductId) {
+        int capacity = 2;
+        while (capacity < quantityByProductId.size() * 2) {
+            capacity <<= 1;
+        }
+
+        ProductQuantities table = new ProductQuantities(capacity);
+        quantityByProductId.forEach(table::insert);
+        return table;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int get(int productId) {
+        int slot = slotOf(productId);
+        return slot == ABSENT ? ABSENT : quantities.get(slot);
+    }
+
+    boolean tryTake(int productId, int quantity) {
+        int slot = slotOf(productId);
+        if (slot == ABSENT) {
+            return false;
+        }
+        while (true) {
+            int available = quantities.get(slot);
+            if (available < quantity) {
+                return false;
+            }
+            if (quantities.compareAndSet(slot, available, available - quantity)) {
+                return true;
+            }
+        }
+    }
+
+    void giveBack(int productId, int quantity) {
+        int slot = slotOf(productId);
+        if (slot != ABSENT) {
+            quantities.addAndGet(slot, quantity);
+        }
+    }
+
+    private void insert(int productId, int quantity) {
+        int slot = hash(productId) & mask;
+        while (occupied[slot] && productIds[slot] != productId) {
+            slot = (slot + 1) & mask;
+        }
+        if (!occupied[slot]) {
+            occupied[slot] = true;
+            productIds[slot] = productId;
+            size++;
+        }
+        quantities.set(slot, quantity);
+    }
+
+    private int slotOf(int productId) {
+        int slot = hash(productId) & mask;
+        while (occupied[slot]) {
+            if (productIds[slot] == productId) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return ABSENT;
+    }
+
+    private static int hash(int productId) {
+        int h = productId * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,142 @@
+package com.shippingmanagement.inventory_service.ledger;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+@Slf4j
+class RedoJournal {
+
+    private static final String PREFIX = "inventory-";
+    private static final String SUFFIX = ".journal";
+
+    private final Path directory;
+    private final boolean fsync;
+
+    private FileChannel channel;
+    private long sequence;
+
+    RedoJournal(Path directory, boolean fsync) {
+        this.directory = directory;
+        this.fsync = fsync;
+    }
+
+    List<Segment> recover() throws IOException {
+        Files.createDirectories(directory);
+        List<Segment> segments = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> segmentFiles = files
+                    .filter(path -> path.getFileName().toString().startsWith(PREFIX))
+                    .filter(path -> path.getFileName().toString().endsWith(SUFFIX))
+                    .sorted(Comparator.comparingLong(RedoJournal::sequenceOf))
+                    .toList();
+            for (Path file : segmentFiles) {
+                segments.add(read(sequenceOf(file), file));
+            }
+        }
+        return segments;
+    }
+
+    synchronized void open(long sequence) throws IOException {
+        this.sequence = sequence;
+        this.channel = FileChannel.open(segmentPath(sequence),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    synchronized void append(Map<Integer, Integer> deltas, String reservationKey) throws IOException {
+        byte[] key = reservationKey == null ? new byte[0] : reservationKey.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES * (2 + 2 * deltas.size()) + key.length);
+        buffer.putInt(deltas.size());
+        deltas.forEach((productId, quantity) -> {
+            buffer.putInt(productId);
+            buffer.putInt(quantity);
+        });
+        buffer.putInt(key.length);
+        buffer.put(key);
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        if (fsync) {
+            channel.force(false);
+        }
+    }
+
+    synchronized long rotate() throws IOException {
+        long closedSequence = sequence;
+        channel.close();
+        open(closedSequence + 1);
+        return closedSequence;
+    }
+
+    void delete(long sequence) throws IOException {
+        Files.deleteIfExists(segmentPath(sequence));
+    }
+
+    synchronized void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    private Segment read(long sequence, Path file) throws IOException {
+        Map<Integer, Integer> deltas = new HashMap<>();
+        Set<String> reservationKeys = new HashSet<>();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            while (true) {
+                int count;
+                try {
+                    count = in.readInt();
+                } catch (EOFException e) {
+                    break;
+                }
+                Map<Integer, Integer> record = new HashMap<>();
+                byte[] key;
+                try {
+                    for (int i = 0; i < count; i++) {
+                        record.put(in.readInt(), in.readInt());
+                    }
+                    key = new byte[in.readInt()];
+                    in.readFully(key);
+                } catch (EOFException e) {
+                    log.warn("Discarding torn record at the end of journal segment {}", file.getFileName());
+                    break;
+                }
+                record.forEach((productId, quantity) -> deltas.merge(productId, quantity, Integer::sum));
+                if (key.length > 0) {
+                    reservationKeys.add(new String(key, StandardCharsets.UTF_8));
+                }
+            }
+        }
+        return new Segment(sequence, deltas, reservationKeys);
+    }
+
+    private Path segmentPath(long sequence) {
+        return directory.resolve(PREFIX + sequence + SUFFIX);
+    }
+
+    private static long sequenceOf(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+
+    record Segment(long sequence, Map<Integer, Integer> deltas, Set<String> reservationKeys) {
+    }
+}
@@ -0,0 +1,322 @@
+package com.shippingmanagement.inventory_service.ledger;
+
+import com.shippingmanagement.inventory_service.dto.BatchOrderRequestDto;
+import com.shippingmanagement.inventory_service.dto.BatchOrderResponseDto;
+import com.shippingmanagement.inventory_service.dto.InventoryResponse;
+import com.shippingmanagement.inventory_service.dto.OrderItemRequestDto;
+import com.shippingmanagement.inventory_service.model.Inventory;
+import com.shippingmanagement.inventory_service.model.InventoryJournalCheckpoint;
+import com.shippingmanagement.inventory_service.repository.InventoryJournalCheckpointRepository;
+import com.shippingmanagement.inventory_service.repository.InventoryRepository;
+import com.shippingmanagement.inventory_service.repository.InventoryReservationRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+@Component
+@ConditionalOnProperty(name = "app.inventory.ledger.enabled", havingValue = "true")
+@Slf4j
+public class StockLedger {
+
+    private static final int CHECKPOINT_ID = 1;
+    private static final String APPLY_SQL =
+            "UPDATE inventory SET quantity_available = quantity_available - ? "
+                    + "WHERE product_id = ? AND quantity_available >= ?";
+
+    private final InventoryRepository inventoryRepository;
+    private final InventoryJournalCheckpointRepository checkpointRepository;
+    private final InventoryReservationRepository reservationRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RedoJournal journal;
+
+    private final ReadWriteLock flushLock = new ReentrantReadWriteLock();
+    private final Deque<PendingFlush> failedFlushes = new ArrayDeque<>();
+    private final Set<String> unflushedKeys = ConcurrentHashMap.newKeySet();
+
+    private volatile ProductQuantities quantities = ProductQuantities.of(Map.of());
+    private ConcurrentHashMap<Integer, Integer> pendingDeltas = new ConcurrentHashMap<>();
+    private Set<String> pendingKeys = ConcurrentHashMap.newKeySet();
+
+    public StockLedger(InventoryRepository inventoryRepository,
+                       InventoryJournalCheckpointRepository checkpointRepository,
+                       InventoryReservationRepository reservationRepository,
+                       JdbcTemplate jdbcTemplate,
+                       TransactionTemplate transactionTemplate,
+                       @Value("${app.inventory.ledger.journal-dir}") String journalDir,
+                       @Value("${app.inventory.ledger.fsync}") boolean fsync) {
+        this.inventoryRepository = inventoryRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.reservationRepository = reservationRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.journal = new RedoJournal(Path.of(journalDir), fsync);
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        long lastApplied = checkpointRepository.findById(CHECKPOINT_ID)
+                .map(InventoryJournalCheckpoint::getLastAppliedSegment)
+                .orElse(0L);
+
+        long highestSequence = lastApplied;
+        for (RedoJournal.Segment segment : journal.recover()) {
+            if (segment.sequence() > lastApplied) {
+                log.info("Replaying inventory journal segment {} for {} products",
+                        segment.sequence(), segment.deltas().size());
+                PendingFlush pending = new PendingFlush(segment.sequence(), segment.deltas(), segment.reservationKeys());
+                if (!applyAndDelete(pending)) {
+                    failedFlushes.add(pending);
+                    unflushedKeys.addAll(pending.reservationKeys());
+                }
+            } else {
+                journal.delete(segment.sequence());
+            }
+            highestSequence = Math.max(highestSequence, segment.sequence());
+        }
+
+        journal.open(highestSequence + 1);
+        loadQuantities(unflushedDeltas());
+    }
+
+    private Map<Integer, Integer> unflushedDeltas() {
+        Map<Integer, Integer> unflushed = new HashMap<>(pendingDeltas);
+        failedFlushes.forEach(pending ->
+                pending.deltas().forEach((productId, quantity) -> unflushed.merge(productId, quantity, Integer::sum)));
+        return unflushed;
+    }
+
+    private void loadQuantities(Map<Integer, Integer> unflushedDeltas) {
+        Map<Integer, Integer> quantityByProductId = inventoryRepository.findAll().stream()
+                .collect(Collectors.toMap(Inventory::getProductId,
+                        row -> row.getQuantity() - unflushedDeltas.getOrDefault(row.getProductId(), 0)));
+
+        quantities = ProductQuantities.of(quantityByProductId);
+        log.info("Loaded {} products into the stock ledger", quantityByProductId.size());
+    }
+
+    @Scheduled(fixedDelayString = "${app.inventory.ledger.reconcile-interval-ms}")
+    public synchronized void reconcile() {
+        flush();
+
+        flushLock.writeLock().lock();
+        try {
+            loadQuantities(unflushedDeltas());
+        } catch (Exception e) {
+            log.error("Could not reconcile stock ledger: {}", e.getMessage());
+        } finally {
+            flushLock.writeLock().unlock();
+        }
+    }
+
+    public List<InventoryResponse> checkAndReduceInventory(List<OrderItemRequestDto> orderItems) {
+        return checkAndReduceInventory(orderItems, null);
+    }
+
+    public List<InventoryResponse> checkAndReduceInventory(List<OrderItemRequestDto> orderItems, String reservationKey) {
+        if (reservationKey != null && !claim(reservationKey)) {
+            log.info("Reservation {} was already made, not reducing inventory again", reservationKey);
+            return orderItems.stream()
+                    .map(item -> new InventoryResponse(String.valueOf(item.getProductId()), true))
+                    .collect(Collectors.toList());
+        }
+
+        Map<Integer, Integer> requestedByProductId = new TreeMap<>();
+        orderItems.forEach(item -> requestedByProductId.merge(item.getProductId(), item.getQuantity(), Integer::sum));
+
+        Set<Integer> shortProducts = new HashSet<>();
+        flushLock.readLock().lock();
+        try {
+            ProductQuantities current = quantities;
+            Map<Integer, Integer> taken = new TreeMap<>();
+            requestedByProductId.forEach((productId, quantity) -> {
+                if (current.tryTake(productId, quantity)) {
+                    taken.put(productId, quantity);
+                } else {
+                    shortProducts.add(productId);
+                }
+            });
+
+            if (shortProducts.isEmpty()) {
+                record(current, taken, reservationKey);
+            } else {
+                log.info("Products {} not in stock", shortProducts);
+                release(current, taken);
+                forget(reservationKey);
+            }
+        } finally {
+            flushLock.readLock().unlock();
+        }
+
+        return orderItems.stream()
+                .map(item -> new InventoryResponse(
+                        String.valueOf(item.getProductId()),
+                        !shortProducts.contains(item.getProductId())))
+                .collect(Collectors.toList());
+    }
+
+    public List<BatchOrderResponseDto> checkAndReduceInventoryBatch(List<BatchOrderRequestDto> orders) {
+        return orders.stream()
+                .map(order -> {
+                    List<InventoryResponse> items = checkAndReduceInventory(order.getOrderItems(), order.getReservationKey());
+                    return new BatchOrderResponseDto(order.getOrderRef(),
+                            items.stream().allMatch(InventoryResponse::isInStock), items);
+                })
+                .collect(Collectors.toList());
+    }
+
+    public List<InventoryResponse> checkAvailability(List<Integer> productIds, int quantity) {
+        ProductQuantities current = quantities;
+        return productIds.stream()
+                .map(productId -> {
+                    int available = current.get(productId);
+                    return new InventoryResponse(String.valueOf(productId),
+                            available != ProductQuantities.ABSENT && available >= quantity);
+                })
+                .collect(Collectors.toList());
+    }
+
+    private void release(ProductQuantities current, Map<Integer, Integer> taken) {
+        taken.forEach(current::giveBack);
+    }
+
+    private boolean claim(String reservationKey) {
+        if (!unflushedKeys.add(reservationKey)) {
+            return false;
+        }
+        if (reservationRepository.isKeyRecorded(reservationKey)) {
+            unflushedKeys.remove(reservationKey);
+            return false;
+        }
+        return true;
+    }
+
+    private void forget(String reservationKey) {
+        if (reservationKey != null) {
+            unflushedKeys.remove(reservationKey);
+        }
+    }
+
+    private void record(ProductQuantities current, Map<Integer, Integer> taken, String reservationKey) {
+        try {
+            journal.append(taken, reservationKey);
+            taken.forEach((productId, quantity) -> pendingDeltas.merge(productId, quantity, Integer::sum));
+            if (reservationKey != null) {
+                pendingKeys.add(reservationKey);
+            }
+        } catch (IOException e) {
+            release(current, taken);
+            forget(reservationKey);
+            throw new UncheckedIOException("Could not journal inventory reservation", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.inventory.ledger.flush-interval-ms}")
+    public synchronized void flush() {
+        while (!failedFlushes.isEmpty()) {
+            if (!applyAndDelete(failedFlushes.peek())) {
+                return;
+            }
+            failedFlushes.poll();
+        }
+
+        PendingFlush next;
+        flushLock.writeLock().lock();
+        try {
+            if (pendingDeltas.isEmpty() && pendingKeys.isEmpty()) {
+                return;
+            }
+            next = new PendingFlush(journal.rotate(), pendingDeltas, pendingKeys);
+            pendingDeltas = new ConcurrentHashMap<>();
+            pendingKeys = ConcurrentHashMap.newKeySet();
+        } catch (IOException e) {
+            log.error("Could not rotate inventory journal: {}", e.getMessage());
+            return;
+        } finally {
+            flushLock.writeLock().unlock();
+        }
+
+        if (!applyAndDelete(next)) {
+            failedFlushes.add(next);
+        }
+    }
+
+    private boolean applyAndDelete(PendingFlush pending) {
+        try {
+            applyDeltas(pending.sequence(), pending.deltas(), pending.reservationKeys());
+            journal.delete(pending.sequence());
+            unflushedKeys.removeAll(pending.reservationKeys());
+            log.info("Flushed journal segment {} for {} products", pending.sequence(), pending.deltas().size());
+            return true;
+        } catch (Exception e) {
+            log.error("Could not flush journal segment {}: {}", pending.sequence(), e.getMessage());
+            return false;
+        }
+    }
+
+    private void applyDeltas(long sequence, Map<Integer, Integer> deltas, Set<String> reservationKeys) {
+        List<Map.Entry<Integer, Integer>> entries = new ArrayList<>(new TreeMap<>(deltas).entrySet());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            int[] updatedRows = jdbcTemplate.batchUpdate(APPLY_SQL, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    ps.setInt(1, entries.get(i).getValue());
+                    ps.setInt(2, entries.get(i).getKey());
+                    ps.setInt(3, entries.get(i).getValue());
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return entries.size();
+                }
+            });
+            for (int i = 0; i < updatedRows.length; i++) {
+                if (updatedRows[i] == 0) {
+                    throw new IllegalStateException(String.format(
+                            "Journal segment %d could not take %d of product %d, stock was changed outside the ledger",
+                            sequence, entries.get(i).getValue(), entries.get(i).getKey()));
+                }
+            }
+            if (!reservationKeys.isEmpty()) {
+                reservationRepository.recordKeys(reservationKeys);
+            }
+            checkpointRepository.save(new InventoryJournalCheckpoint(CHECKPOINT_ID, sequence));
+        });
+    }
+
+    @PreDestroy
+    public void stop() throws IOException {
+        flush();
+        journal.close();
+    }
+
+    private record PendingFlush(long sequence, Map<Integer, Integer> deltas, Set<String> reservationKeys) {
+    }
+}
@@ -7,7 +7,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "inventory")
+@Table(name = "inventory", indexes = @Index(name = "idx_inventory_product_id", columnList = "product_id"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,26 @@
+package com.shippingmanagement.inventory_service.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "inventory_journal_checkpoint")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InventoryJournalCheckpoint {
+
+    @Id
+    @Column(name = "id")
+    private Integer id;
+
+    @Column(name = "last_applied_segment", nullable = false)
+    private Long lastAppliedSegment;
+}
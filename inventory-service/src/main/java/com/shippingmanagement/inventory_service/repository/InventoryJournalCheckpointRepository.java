@@ -0,0 +1,9 @@
+package com.shippingmanagement.inventory_service.repository;
+
+import com.shippingmanagement.inventory_service.model.InventoryJournalCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface InventoryJournalCheckpointRepository extends JpaRepository<InventoryJournalCheckpoint, Integer> {
+}
@@ -4,9 +4,13 @@ import com.shippingmanagement.inventory_service.model.Inventory;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface InventoryRepository extends JpaRepository<Inventory, Integer> {
     Inventory findByProductId(Integer productId);
+
+    List<Inventory> findByProductIdIn(Collection<Integer> productIds);
 }
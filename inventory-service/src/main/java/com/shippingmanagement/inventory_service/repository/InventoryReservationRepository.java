@@ -0,0 +1,119 @@
+package com.shippingmanagement.inventory_service.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class InventoryReservationRepository {
+
+    private static final String RESERVE_SQL =
+            "UPDATE inventory SET quantity_available = quantity_available - ? " +
+            "WHERE product_id = ? AND quantity_available >= ?";
+
+    private static final String RELEASE_SQL =
+            "UPDATE inventory SET quantity_available = quantity_available + ? WHERE product_id = ?";
+
+    private static final String RECORD_KEY_SQL =
+            "INSERT INTO inventory_reservation_key (reservation_key, reserved_at) VALUES (?, ?)";
+
+    private static final String KEY_EXISTS_SQL =
+            "SELECT COUNT(*) FROM inventory_reservation_key WHERE reservation_key = ?";
+
+    private static final String FORGET_KEY_SQL =
+            "DELETE FROM inventory_reservation_key WHERE reservation_key = ?";
+
+    private static final String PURGE_KEYS_SQL =
+            "DELETE FROM inventory_reservation_key WHERE reserved_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public int[] reserve(Map<Integer, Integer> quantityByProductId) {
+        List<Map.Entry<Integer, Integer>> entries = new ArrayList<>(quantityByProductId.entrySet());
+
+        return jdbcTemplate.batchUpdate(RESERVE_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Map.Entry<Integer, Integer> entry = entries.get(i);
+                ps.setInt(1, entry.getValue());
+                ps.setInt(2, entry.getKey());
+                ps.setInt(3, entry.getValue());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return entries.size();
+            }
+        });
+    }
+
+    public int[] release(Map<Integer, Integer> quantityByProductId) {
+        List<Map.Entry<Integer, Integer>> entries = new ArrayList<>(quantityByProductId.entrySet());
+
+        return jdbcTemplate.batchUpdate(RELEASE_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Map.Entry<Integer, Integer> entry = entries.get(i);
+                ps.setInt(1, entry.getValue());
+                ps.setInt(2, entry.getKey());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return entries.size();
+            }
+        });
+    }
+
+    public boolean recordKey(String reservationKey) {
+        try {
+            jdbcTemplate.update(RECORD_KEY_SQL, reservationKey, Timestamp.valueOf(LocalDateTime.now()));
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    public void recordKeys(Collection<String> reservationKeys) {
+        List<String> keys = new ArrayList<>(reservationKeys);
+        Timestamp reservedAt = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(RECORD_KEY_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setString(1, keys.get(i));
+                ps.setTimestamp(2, reservedAt);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return keys.size();
+            }
+        });
+    }
+
+    public boolean isKeyRecorded(String reservationKey) {
+        Integer count = jdbcTemplate.queryForObject(KEY_EXISTS_SQL, Integer.class, reservationKey);
+        return count != null && count > 0;
+    }
+
+    public void forgetKey(String reservationKey) {
+        jdbcTemplate.update(FORGET_KEY_SQL, reservationKey);
+    }
+
+    public int purgeKeysRecordedBefore(LocalDateTime cutoff) {
+        return jdbcTemplate.update(PURGE_KEYS_SQL, Timestamp.valueOf(cutoff));
+    }
+}
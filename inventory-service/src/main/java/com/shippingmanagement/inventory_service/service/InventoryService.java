@@ -1,14 +1,26 @@
 package com.shippingmanagement.inventory_service.service;
 
+import com.shippingmanagement.inventory_service.cache.InventoryAvailabilityCache;
+import com.shippingmanagement.inventory_service.dto.BatchOrderRequestDto;
+import com.shippingmanagement.inventory_service.dto.BatchOrderResponseDto;
 import com.shippingmanagement.inventory_service.dto.InventoryResponse;
 import com.shippingmanagement.inventory_service.dto.OrderItemRequestDto;
-import com.shippingmanagement.inventory_service.model.Inventory;
 import com.shippingmanagement.inventory_service.repository.InventoryRepository;
+import com.shippingmanagement.inventory_service.repository.InventoryReservationRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 @Service
@@ -17,44 +29,127 @@ import java.util.stream.Collectors;
 public class InventoryService {
 
     private final InventoryRepository inventoryRepository;
+    private final InventoryReservationRepository inventoryReservationRepository;
+    private final InventoryAvailabilityCache inventoryAvailabilityCache;
+
+    @Value("${app.inventory.reservation-keys.retention-hours}")
+    private long reservationKeyRetentionHours;
+
+    public List<InventoryResponse> checkAvailability(List<Integer> productIds, int quantity) {
+        Map<Integer, Integer> quantityByProductId = inventoryAvailabilityCache.getQuantities(productIds);
+        return productIds.stream()
+                .map(productId -> new InventoryResponse(
+                        String.valueOf(productId),
+                        quantityByProductId.getOrDefault(productId, 0) >= quantity))
+                .collect(Collectors.toList());
+    }
 
     @Transactional
     public List<InventoryResponse> checkAndReduceInventory(List<OrderItemRequestDto> orderItems) {
+        return checkAndReduceInventory(orderItems, null);
+    }
+
+    @Transactional
+    public List<InventoryResponse> checkAndReduceInventory(List<OrderItemRequestDto> orderItems, String reservationKey) {
         log.info("Checking and reducing inventory");
+        if (reservationKey != null && !inventoryReservationRepository.recordKey(reservationKey)) {
+            log.info("Reservation {} was already made, not reducing inventory again", reservationKey);
+            return inStock(orderItems);
+        }
+        Map<Integer, Integer> requestedByProductId = new TreeMap<>();
+        orderItems.forEach(item -> requestedByProductId.merge(item.getProductId(), item.getQuantity(), Integer::sum));
+
+        Map<Integer, Boolean> reservedByProductId = reduceProductQuantities(requestedByProductId);
+
         List<InventoryResponse> inventoryResponses = orderItems.stream()
-                .map(this::checkSingleProductAvailability)
+                .map(item -> new InventoryResponse(
+                        String.valueOf(item.getProductId()),
+                        reservedByProductId.get(item.getProductId())))
                 .collect(Collectors.toList());
 
-
-        if (inventoryResponses.stream().allMatch(InventoryResponse::isInStock)) {
+        if (reservedByProductId.containsValue(false)) {
+            log.info("Product not in stock, rolling back reservation");
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+        } else {
             log.info("All inventory items in stock");
-            orderItems.forEach(this::reduceProductQuantity);
         }
 
         return inventoryResponses;
     }
 
-    private InventoryResponse checkSingleProductAvailability(OrderItemRequestDto orderItem) {
-        Inventory inventory = inventoryRepository.findByProductId(orderItem.getProductId());
-        log.info("Product: {} Quantity: {}", orderItem.getProductId(), inventory.getQuantity());
-        if (inventory == null || inventory.getQuantity() < orderItem.getQuantity()) {
-            log.info("Product not in stock");
-            return new InventoryResponse(
-                    String.valueOf(orderItem.getProductId()),
-                    false
-            );
+    private List<InventoryResponse> inStock(List<OrderItemRequestDto> orderItems) {
+        return orderItems.stream()
+                .map(item -> new InventoryResponse(String.valueOf(item.getProductId()), true))
+                .collect(Collectors.toList());
+    }
+
+    private Map<Integer, Boolean> reduceProductQuantities(Map<Integer, Integer> requestedByProductId) {
+        int[] updatedRows = inventoryReservationRepository.reserve(requestedByProductId);
+        inventoryAvailabilityCache.invalidateAfterCommit(requestedByProductId.keySet());
+
+        Map<Integer, Boolean> reservedByProductId = new HashMap<>();
+        int i = 0;
+        for (Integer productId : requestedByProductId.keySet()) {
+            reservedByProductId.put(productId, updatedRows[i++] > 0);
+        }
+        return reservedByProductId;
+    }
+
+    @Transactional
+    public List<BatchOrderResponseDto> checkAndReduceInventoryBatch(List<BatchOrderRequestDto> orders) {
+        log.info("Checking and reducing inventory for a batch of {} orders", orders.size());
+        List<BatchOrderResponseDto> results = new ArrayList<>(orders.size());
+        for (BatchOrderRequestDto order : orders) {
+            results.add(reserveOrder(order));
+        }
+
+        log.info("Reserved {} of {} orders in batch",
+                results.stream().filter(BatchOrderResponseDto::isInStock).count(), orders.size());
+        return results;
+    }
+
+    private BatchOrderResponseDto reserveOrder(BatchOrderRequestDto order) {
+        if (order.getReservationKey() != null && !inventoryReservationRepository.recordKey(order.getReservationKey())) {
+            log.info("Reservation {} was already made, not reducing inventory again", order.getReservationKey());
+            return new BatchOrderResponseDto(order.getOrderRef(), true, inStock(order.getOrderItems()));
+        }
+        Map<Integer, Integer> requestedByProductId = new TreeMap<>();
+        order.getOrderItems().forEach(item ->
+                requestedByProductId.merge(item.getProductId(), item.getQuantity(), Integer::sum));
+
+        Map<Integer, Boolean> reservedByProductId = reduceProductQuantities(requestedByProductId);
+        List<InventoryResponse> itemResponses = order.getOrderItems().stream()
+                .map(item -> new InventoryResponse(
+                        String.valueOf(item.getProductId()),
+                        reservedByProductId.get(item.getProductId())))
+                .collect(Collectors.toList());
+
+        boolean allInStock = !reservedByProductId.containsValue(false);
+        if (!allInStock) {
+            log.info("Order {} not reserved, product not enough in inventory", order.getOrderRef());
+            Map<Integer, Integer> reserved = new TreeMap<>();
+            requestedByProductId.forEach((productId, quantity) -> {
+                if (reservedByProductId.get(productId)) {
+                    reserved.put(productId, quantity);
+                }
+            });
+            if (!reserved.isEmpty()) {
+                inventoryReservationRepository.release(reserved);
+            }
+            if (order.getReservationKey() != null) {
+                inventoryReservationRepository.forgetKey(order.getReservationKey());
+            }
         }
 
-        log.info("Product availability ok");
-        return new InventoryResponse(String.valueOf(orderItem.getProductId()), true);
+        return new BatchOrderResponseDto(order.getOrderRef(), allInStock, itemResponses);
     }
 
-    private void reduceProductQuantity(OrderItemRequestDto orderItem) {
-        Inventory inventory = inventoryRepository.findByProductId(orderItem.getProductId());
-        if (inventory != null && inventory.getQuantity() >= orderItem.getQuantity()) {
-            log.info("Reduce product quantity");
-            inventory.setQuantity(inventory.getQuantity() - orderItem.getQuantity());
-            inventoryRepository.save(inventory);
+    @Scheduled(fixedDelayString = "${app.inventory.reservation-keys.purge-interval-ms}")
+    public void purgeReservationKeys() {
+        int purged = inventoryReservationRepository.purgeKeysRecordedBefore(
+                LocalDateTime.now().minusHours(reservationKeyRetentionHours));
+        if (purged > 0) {
+            log.info("Purged {} expired reservation keys", purged);
         }
     }
 }
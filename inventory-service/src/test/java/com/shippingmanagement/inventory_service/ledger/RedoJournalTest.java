@@ -0,0 +1,79 @@
+package com.shippingmanagement.inventory_service.ledger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RedoJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void recoverReplaysEveryRecordGroupedBySegment() throws IOException {
+        RedoJournal journal = new RedoJournal(directory, true);
+        journal.open(1);
+        journal.append(Map.of(1, 2), null);
+        journal.append(Map.of(1, 3, 2, 1), null);
+        assertThat(journal.rotate()).isEqualTo(1);
+        journal.append(Map.of(2, 4), null);
+        journal.close();
+
+        List<RedoJournal.Segment> segments = new RedoJournal(directory, true).recover();
+
+        assertThat(segments).containsExactly(
+                new RedoJournal.Segment(1, Map.of(1, 5, 2, 1), Set.of()),
+                new RedoJournal.Segment(2, Map.of(2, 4), Set.of()));
+    }
+
+    @Test
+    void recoverDiscardsTornRecordAtTheEndOfASegment() throws IOException {
+        RedoJournal journal = new RedoJournal(directory, true);
+        journal.open(7);
+        journal.append(Map.of(1, 2), null);
+        journal.close();
+        Files.write(directory.resolve("inventory-7.journal"),
+                ByteBuffer.allocate(Integer.BYTES * 2).putInt(2).putInt(3).array(),
+                StandardOpenOption.APPEND);
+
+        List<RedoJournal.Segment> segments = new RedoJournal(directory, true).recover();
+
+        assertThat(segments).containsExactly(new RedoJournal.Segment(7, Map.of(1, 2), Set.of()));
+    }
+
+    @Test
+    void deletedSegmentsAreNotRecovered() throws IOException {
+        RedoJournal journal = new RedoJournal(directory, true);
+        journal.open(1);
+        journal.append(Map.of(1, 2), null);
+        long closed = journal.rotate();
+        journal.close();
+        journal.delete(closed);
+
+        assertThat(new RedoJournal(directory, true).recover())
+                .containsExactly(new RedoJournal.Segment(2, Map.of(), Set.of()));
+    }
+
+    @Test
+    void recoverReturnsTheReservationKeysOfEachSegment() throws IOException {
+        RedoJournal journal = new RedoJournal(directory, true);
+        journal.open(1);
+        journal.append(Map.of(1, 2), "order-a");
+        journal.append(Map.of(1, 1), null);
+        journal.append(Map.of(2, 3), "order-b");
+        journal.close();
+
+        assertThat(new RedoJournal(directory, true).recover())
+                .containsExactly(new RedoJournal.Segment(1, Map.of(1, 3, 2, 3), Set.of("order-a", "order-b")));
+    }
+}
@@ -0,0 +1,161 @@
+package com.shippingmanagement.inventory_service.ledger;
+
+import com.shippingmanagement.inventory_service.dto.InventoryResponse;
+import com.shippingmanagement.inventory_service.dto.OrderItemRequestDto;
+import com.shippingmanagement.inventory_service.model.Inventory;
+import com.shippingmanagement.inventory_service.model.InventoryJournalCheckpoint;
+import com.shippingmanagement.inventory_service.repository.InventoryJournalCheckpointRepository;
+import com.shippingmanagement.inventory_service.repository.InventoryRepository;
+import com.shippingmanagement.inventory_service.repository.InventoryReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class StockLedgerRecoveryTest {
+
+    @TempDir
+    Path journalDir;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private InventoryJournalCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void clearTables() {
+        inventoryRepository.deleteAll();
+        checkpointRepository.deleteAll();
+        jdbcTemplate.update("DELETE FROM inventory_reservation_key");
+    }
+
+    @Test
+    void startReplaysOnlySegmentsAfterTheCheckpoint() throws IOException {
+        inventoryRepository.save(Inventory.builder().productId(1).quantity(100).build());
+        checkpointRepository.save(new InventoryJournalCheckpoint(1, 1L));
+        writeSegment(1, Map.of(1, 10));
+        writeSegment(2, Map.of(1, 5));
+
+        StockLedger ledger = newLedger();
+        ledger.start();
+
+        assertThat(quantityOf(1)).isEqualTo(95);
+        assertThat(checkpointRepository.findById(1)).get()
+                .extracting(InventoryJournalCheckpoint::getLastAppliedSegment).isEqualTo(2L);
+        assertThat(journalDir.resolve("inventory-1.journal")).doesNotExist();
+        assertThat(journalDir.resolve("inventory-2.journal")).doesNotExist();
+        assertThat(isAvailable(ledger, 1, 95)).isTrue();
+        assertThat(isAvailable(ledger, 1, 96)).isFalse();
+        ledger.stop();
+    }
+
+    @Test
+    void reservationsJournaledBeforeACrashAreAppliedOnRestart() throws IOException {
+        inventoryRepository.save(Inventory.builder().productId(1).quantity(100).build());
+        inventoryRepository.save(Inventory.builder().productId(2).quantity(50).build());
+
+        StockLedger crashed = newLedger();
+        crashed.start();
+        List<InventoryResponse> responses = crashed.checkAndReduceInventory(List.of(
+                new OrderItemRequestDto(1, 30),
+                new OrderItemRequestDto(2, 20)));
+        assertThat(responses).allMatch(InventoryResponse::isInStock);
+        assertThat(quantityOf(1)).isEqualTo(100);
+
+        StockLedger restarted = newLedger();
+        restarted.start();
+
+        assertThat(quantityOf(1)).isEqualTo(70);
+        assertThat(quantityOf(2)).isEqualTo(30);
+        assertThat(isAvailable(restarted, 1, 70)).isTrue();
+        assertThat(isAvailable(restarted, 1, 71)).isFalse();
+        restarted.stop();
+    }
+
+    @Test
+    void conflictingSegmentIsKeptUntilItCanBeApplied() throws IOException {
+        inventoryRepository.save(Inventory.builder().productId(1).quantity(10).build());
+        writeSegment(1, Map.of(1, 20));
+
+        StockLedger ledger = newLedger();
+        ledger.start();
+
+        assertThat(quantityOf(1)).isEqualTo(10);
+        assertThat(checkpointRepository.findById(1)).isEmpty();
+        assertThat(journalDir.resolve("inventory-1.journal")).exists();
+        assertThat(isAvailable(ledger, 1, 1)).isFalse();
+
+        jdbcTemplate.update("UPDATE inventory SET quantity_available = 50 WHERE product_id = 1");
+        ledger.reconcile();
+
+        assertThat(quantityOf(1)).isEqualTo(30);
+        assertThat(journalDir.resolve("inventory-1.journal")).doesNotExist();
+        assertThat(isAvailable(ledger, 1, 30)).isTrue();
+        assertThat(isAvailable(ledger, 1, 31)).isFalse();
+        ledger.stop();
+    }
+
+    @Test
+    void repeatedReservationKeyIsOnlyTakenOnceAcrossARestart() throws IOException {
+        inventoryRepository.save(Inventory.builder().productId(1).quantity(100).build());
+        List<OrderItemRequestDto> order = List.of(new OrderItemRequestDto(1, 30));
+
+        StockLedger crashed = newLedger();
+        crashed.start();
+        assertThat(crashed.checkAndReduceInventory(order, "order-1")).allMatch(InventoryResponse::isInStock);
+        assertThat(crashed.checkAndReduceInventory(order, "order-1")).allMatch(InventoryResponse::isInStock);
+        assertThat(isAvailable(crashed, 1, 71)).isFalse();
+
+        StockLedger restarted = newLedger();
+        restarted.start();
+        assertThat(restarted.checkAndReduceInventory(order, "order-1")).allMatch(InventoryResponse::isInStock);
+
+        assertThat(quantityOf(1)).isEqualTo(70);
+        assertThat(isAvailable(restarted, 1, 70)).isTrue();
+        restarted.stop();
+    }
+
+    private StockLedger newLedger() {
+        return new StockLedger(inventoryRepository, checkpointRepository,
+                new InventoryReservationRepository(jdbcTemplate), jdbcTemplate, transactionTemplate,
+                journalDir.toString(), false);
+    }
+
+    private void writeSegment(long sequence, Map<Integer, Integer> deltas) throws IOException {
+        Files.createDirectories(journalDir);
+        RedoJournal journal = new RedoJournal(journalDir, false);
+        journal.open(sequence);
+        journal.append(deltas, null);
+        journal.close();
+    }
+
+    private int quantityOf(int productId) {
+        return inventoryRepository.findByProductId(productId).getQuantity();
+    }
+
+    private boolean isAvailable(StockLedger ledger, int productId, int quantity) {
+        return ledger.checkAvailability(List.of(productId), quantity).get(0).isInStock();
+    }
+}
@@ -0,0 +1,116 @@
+package com.shippingmanagement.inventory_service.service;
+
+import com.shippingmanagement.inventory_service.cache.InventoryAvailabilityCache;
+import com.shippingmanagement.inventory_service.dto.InventoryResponse;
+import com.shippingmanagement.inventory_service.dto.OrderItemRequestDto;
+import com.shippingmanagement.inventory_service.model.Inventory;
+import com.shippingmanagement.inventory_service.repository.InventoryRepository;
+import com.shippingmanagement.inventory_service.repository.InventoryReservationRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import({InventoryService.class, InventoryReservationRepository.class, InventoryAvailabilityCache.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class InventoryReservationConcurrencyTest {
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Test
+    void concurrentReservationsNeverOversell() throws Exception {
+        int stock = 100;
+        int threads = 16;
+        int attemptsPerThread = 25;
+        inventoryRepository.save(Inventory.builder().productId(1001).quantity(stock).build());
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger reserved = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < attemptsPerThread; i++) {
+                    List<InventoryResponse> responses = inventoryService.checkAndReduceInventory(
+                            List.of(new OrderItemRequestDto(1001, 1)));
+                    if (responses.stream().allMatch(InventoryResponse::isInStock)) {
+                        reserved.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(reserved.get()).isEqualTo(stock);
+        assertThat(inventoryRepository.findByProductId(1001).getQuantity()).isZero();
+    }
+
+    @Test
+    void orderIsRolledBackWhenAnyItemIsShort() {
+        inventoryRepository.save(Inventory.builder().productId(2001).quantity(10).build());
+        inventoryRepository.save(Inventory.builder().productId(2002).quantity(1).build());
+
+        List<InventoryResponse> responses = inventoryService.checkAndReduceInventory(List.of(
+                new OrderItemRequestDto(2001, 5),
+                new OrderItemRequestDto(2002, 2)));
+
+        assertThat(responses).extracting(InventoryResponse::isInStock).containsExactly(true, false);
+        assertThat(inventoryRepository.findByProductId(2001).getQuantity()).isEqualTo(10);
+        assertThat(inventoryRepository.findByProductId(2002).getQuantity()).isEqualTo(1);
+    }
+
+    @Test
+    void repeatedReservationKeyReducesInventoryOnce() {
+        inventoryRepository.save(Inventory.builder().productId(3001).quantity(10).build());
+        List<OrderItemRequestDto> order = List.of(new OrderItemRequestDto(3001, 4));
+
+        assertThat(inventoryService.checkAndReduceInventory(order, "order-3001"))
+                .allMatch(InventoryResponse::isInStock);
+        assertThat(inventoryService.checkAndReduceInventory(order, "order-3001"))
+                .allMatch(InventoryResponse::isInStock);
+
+        assertThat(inventoryRepository.findByProductId(3001).getQuantity()).isEqualTo(6);
+    }
+
+    @Test
+    void reservationKeyOfAShortOrderCanBeRetried() {
+        inventoryRepository.save(Inventory.builder().productId(4001).quantity(1).build());
+        List<OrderItemRequestDto> order = List.of(new OrderItemRequestDto(4001, 2));
+
+        assertThat(inventoryService.checkAndReduceInventory(order, "order-4001"))
+                .extracting(InventoryResponse::isInStock).containsExactly(false);
+        Inventory restocked = inventoryRepository.findByProductId(4001);
+        restocked.setQuantity(5);
+        inventoryRepository.save(restocked);
+
+        assertThat(inventoryService.checkAndReduceInventory(order, "order-4001"))
+                .allMatch(InventoryResponse::isInStock);
+        assertThat(inventoryRepository.findByProductId(4001).getQuantity()).isEqualTo(3);
+    }
+}
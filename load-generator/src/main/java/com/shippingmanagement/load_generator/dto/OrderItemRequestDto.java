@@ -0,0 +1,14 @@
+package com.shippingmanagement.load_generator.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderItemRequestDto {
+
+    private Integer productId;
+    private Integer quantity;
+}
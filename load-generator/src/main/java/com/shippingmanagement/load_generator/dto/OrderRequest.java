@@ -0,0 +1,19 @@
+package com.shippingmanagement.load_generator.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderRequest {
+
+    private String customerId;
+    private String destinationCountry;
+    private List<OrderItemRequestDto> orderItems;
+}
@@ -0,0 +1,94 @@
+package com.shippingmanagement.load_generator.report;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+public class EndpointStats {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final String name;
+    private final Recorder responseTime = new Recorder(SIGNIFICANT_DIGITS);
+    private final Recorder serviceTime = new Recorder(SIGNIFICANT_DIGITS);
+    private final Histogram totalResponseTime = new Histogram(SIGNIFICANT_DIGITS);
+    private final Histogram totalServiceTime = new Histogram(SIGNIFICANT_DIGITS);
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+    private final LongAdder intervalErrors = new LongAdder();
+    private final LongAdder totalErrors = new LongAdder();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private Histogram intervalResponseTime;
+
+    public EndpointStats(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void onSent() {
+        inFlight.incrementAndGet();
+    }
+
+    public void onCompleted(long intendedStartNanos, long actualStartNanos, int statusCode, Throwable error, boolean measured) {
+        long completedNanos = System.nanoTime();
+        inFlight.decrementAndGet();
+        if (!measured) {
+            return;
+        }
+
+        responseTime.recordValue(toMicros(completedNanos - intendedStartNanos));
+        serviceTime.recordValue(toMicros(completedNanos - actualStartNanos));
+
+        String outcome = error != null ? error.getClass().getSimpleName() : String.valueOf(statusCode);
+        outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+        if (error != null || statusCode >= 500) {
+            intervalErrors.increment();
+            totalErrors.increment();
+        }
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    synchronized Histogram rollInterval() {
+        intervalResponseTime = responseTime.getIntervalHistogram(intervalResponseTime);
+        totalResponseTime.add(intervalResponseTime);
+        totalServiceTime.add(serviceTime.getIntervalHistogram());
+        return intervalResponseTime;
+    }
+
+    long drainIntervalErrors() {
+        return intervalErrors.sumThenReset();
+    }
+
+    Histogram getTotalResponseTime() {
+        return totalResponseTime;
+    }
+
+    Histogram getTotalServiceTime() {
+        return totalServiceTime;
+    }
+
+    long getTotalErrors() {
+        return totalErrors.sum();
+    }
+
+    Map<String, Long> getOutcomes() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        outcomes.forEach((outcome, count) -> snapshot.put(outcome, count.sum()));
+        return snapshot;
+    }
+
+    private static long toMicros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(Math.max(nanos, 0));
+    }
+}
@@ -0,0 +1,156 @@
+package com.shippingmanagement.load_generator.report;
+
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@Slf4j
+public class LatencyReporter {
+
+    private static final double[] PERCENTILES = {50.0, 90.0, 99.0, 99.9, 99.99};
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final Path outputDir;
+    private final long intervalMs;
+
+    private List<EndpointStats> endpoints;
+    private PrintWriter intervalCsv;
+    private ScheduledExecutorService scheduler;
+    private long startMillis;
+
+    public LatencyReporter(@Value("${app.load.report.output-dir}") String outputDir,
+                           @Value("${app.load.report.interval-ms}") long intervalMs) {
+        this.outputDir = Paths.get(outputDir);
+        this.intervalMs = intervalMs;
+    }
+
+    public void start(List<EndpointStats> endpoints) {
+        this.endpoints = endpoints;
+        this.startMillis = System.currentTimeMillis();
+        try {
+            Files.createDirectories(outputDir);
+            intervalCsv = new PrintWriter(Files.newBufferedWriter(outputDir.resolve("intervals.csv"), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create report files in " + outputDir, e);
+        }
+        intervalCsv.println("elapsed_ms,endpoint,count,errors,p50_ms,p90_ms,p99_ms,p99.9_ms,max_ms");
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "load-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::reportInterval, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    public void finish() {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(intervalMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        reportInterval();
+        intervalCsv.close();
+
+        writeSummary();
+        for (EndpointStats endpoint : endpoints) {
+            writePercentileDistribution(endpoint.getName() + "-response-time.hgrm", endpoint.getTotalResponseTime());
+            writePercentileDistribution(endpoint.getName() + "-service-time.hgrm", endpoint.getTotalServiceTime());
+            logSummary(endpoint);
+        }
+        log.info("Reports written to {}", outputDir.toAbsolutePath());
+    }
+
+    private synchronized void reportInterval() {
+        long elapsedMs = System.currentTimeMillis() - startMillis;
+        for (EndpointStats endpoint : endpoints) {
+            Histogram interval = endpoint.rollInterval();
+            long errors = endpoint.drainIntervalErrors();
+            intervalCsv.printf(Locale.ROOT, "%d,%s,%d,%d,%.3f,%.3f,%.3f,%.3f,%.3f%n",
+                    elapsedMs, endpoint.getName(), interval.getTotalCount(), errors,
+                    millis(interval, 50.0), millis(interval, 90.0), millis(interval, 99.0), millis(interval, 99.9),
+                    interval.getMaxValue() / MICROS_PER_MILLI);
+            log.info("{} {}s: {} req, {} errors, p50={}ms p99={}ms max={}ms, in-flight={}",
+                    endpoint.getName(), elapsedMs / 1000, interval.getTotalCount(), errors,
+                    format(millis(interval, 50.0)), format(millis(interval, 99.0)),
+                    format(interval.getMaxValue() / MICROS_PER_MILLI), endpoint.getInFlight());
+        }
+        intervalCsv.flush();
+    }
+
+    private void writeSummary() {
+        try (PrintWriter summary = new PrintWriter(Files.newBufferedWriter(outputDir.resolve("summary.csv"), StandardCharsets.UTF_8))) {
+            summary.println("endpoint,metric,count,errors,mean_ms,p50_ms,p90_ms,p99_ms,p99.9_ms,p99.99_ms,max_ms");
+            for (EndpointStats endpoint : endpoints) {
+                writeSummaryRow(summary, endpoint, "response_time", endpoint.getTotalResponseTime());
+                writeSummaryRow(summary, endpoint, "service_time", endpoint.getTotalServiceTime());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write summary.csv", e);
+        }
+    }
+
+    private void writeSummaryRow(PrintWriter summary, EndpointStats endpoint, String metric, Histogram histogram) {
+        StringBuilder row = new StringBuilder()
+                .append(endpoint.getName()).append(',')
+                .append(metric).append(',')
+                .append(histogram.getTotalCount()).append(',')
+                .append(endpoint.getTotalErrors()).append(',')
+                .append(format(histogram.getMean() / MICROS_PER_MILLI));
+        for (double percentile : PERCENTILES) {
+            row.append(',').append(format(millis(histogram, percentile)));
+        }
+        row.append(',').append(format(histogram.getMaxValue() / MICROS_PER_MILLI));
+        summary.println(row);
+    }
+
+    private void writePercentileDistribution(String fileName, Histogram histogram) {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(outputDir.resolve(fileName)), false, StandardCharsets.UTF_8)) {
+            histogram.outputPercentileDistribution(out, MICROS_PER_MILLI);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write " + fileName, e);
+        }
+    }
+
+    private void logSummary(EndpointStats endpoint) {
+        Histogram responseTime = endpoint.getTotalResponseTime();
+        Histogram serviceTime = endpoint.getTotalServiceTime();
+        StringBuilder report = new StringBuilder()
+                .append(endpoint.getName()).append(": ").append(responseTime.getTotalCount()).append(" requests, ")
+                .append(endpoint.getTotalErrors()).append(" errors, outcomes ").append(endpoint.getOutcomes());
+        for (double percentile : PERCENTILES) {
+            report.append(System.lineSeparator())
+                    .append(String.format(Locale.ROOT, "  p%-6s response %10.3f ms   service %10.3f ms",
+                            percentile, millis(responseTime, percentile), millis(serviceTime, percentile)));
+        }
+        report.append(System.lineSeparator())
+                .append(String.format(Locale.ROOT, "  %-7s response %10.3f ms   service %10.3f ms", "max",
+                        responseTime.getMaxValue() / MICROS_PER_MILLI, serviceTime.getMaxValue() / MICROS_PER_MILLI));
+        log.info(report.toString());
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / MICROS_PER_MILLI;
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+}
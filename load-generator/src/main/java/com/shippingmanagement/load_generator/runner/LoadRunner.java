@@ -0,0 +1,137 @@
+package com.shippingmanagement.load_generator.runner;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shippingmanagement.load_generator.report.EndpointStats;
+import com.shippingmanagement.load_generator.report.LatencyReporter;
+import com.shippingmanagement.load_generator.workload.OrderMix;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LoadRunner implements CommandLineRunner {
+
+    private final OrderMix orderMix;
+    private final LatencyReporter latencyReporter;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.load.order-service-url}")
+    private String orderServiceUrl;
+
+    @Value("${app.load.inventory-service-url}")
+    private String inventoryServiceUrl;
+
+    @Value("${app.load.orders.rate-per-second}")
+    private double ordersRate;
+
+    @Value("${app.load.orders.idempotency-keys}")
+    private boolean idempotencyKeys;
+
+    @Value("${app.load.inventory-check.rate-per-second}")
+    private double inventoryCheckRate;
+
+    @Value("${app.load.warmup-seconds}")
+    private long warmupSeconds;
+
+    @Value("${app.load.duration-seconds}")
+    private long durationSeconds;
+
+    @Value("${app.load.connect-timeout-ms}")
+    private long connectTimeoutMs;
+
+    @Value("${app.load.request-timeout-ms}")
+    private long requestTimeoutMs;
+
+    @Override
+    public void run(String... args) throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .executor(executor)
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                    .build();
+
+            List<EndpointStats> endpoints = new ArrayList<>();
+            List<Thread> drivers = new ArrayList<>();
+            if (ordersRate > 0) {
+                EndpointStats stats = new EndpointStats("orders");
+                endpoints.add(stats);
+                drivers.add(driverThread(httpClient, this::orderRequest, stats, ordersRate));
+            }
+            if (inventoryCheckRate > 0) {
+                EndpointStats stats = new EndpointStats("inventory-check");
+                endpoints.add(stats);
+                drivers.add(driverThread(httpClient, this::inventoryCheckRequest, stats, inventoryCheckRate));
+            }
+            if (drivers.isEmpty()) {
+                log.warn("No endpoint has a positive rate, nothing to do");
+                return;
+            }
+
+            log.info("Running {}s warm-up and {}s measurement: orders {}/s, inventory-check {}/s",
+                    warmupSeconds, durationSeconds, ordersRate, inventoryCheckRate);
+            latencyReporter.start(endpoints);
+            drivers.forEach(Thread::start);
+            for (Thread driver : drivers) {
+                driver.join();
+            }
+            awaitInFlight(endpoints);
+            latencyReporter.finish();
+        }
+    }
+
+    private Thread driverThread(HttpClient httpClient, Supplier<HttpRequest> requests,
+                                EndpointStats stats, double rate) {
+        OpenLoopDriver driver = new OpenLoopDriver(httpClient, requests, stats, rate,
+                TimeUnit.SECONDS.toNanos(warmupSeconds), TimeUnit.SECONDS.toNanos(durationSeconds));
+        return Thread.ofPlatform().name("load-driver-" + stats.getName()).unstarted(driver);
+    }
+
+    private HttpRequest orderRequest() {
+        HttpRequest.Builder builder = jsonPost(orderServiceUrl + "/api/orders", orderMix.nextOrder());
+        if (idempotencyKeys) {
+            builder.header("Idempotency-Key", UUID.randomUUID().toString());
+        }
+        return builder.build();
+    }
+
+    private HttpRequest inventoryCheckRequest() {
+        return jsonPost(inventoryServiceUrl + "/api/inventory/check", orderMix.nextItems()).build();
+    }
+
+    private HttpRequest.Builder jsonPost(String url, Object body) {
+        try {
+            return HttpRequest.newBuilder(URI.create(url))
+                    .timeout(Duration.ofMillis(requestTimeoutMs))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void awaitInFlight(List<EndpointStats> endpoints) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(requestTimeoutMs + connectTimeoutMs);
+        while (endpoints.stream().anyMatch(stats -> stats.getInFlight() > 0) && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.shippingmanagement.load_generator.runner;
+
+import com.shippingmanagement.load_generator.report.EndpointStats;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+@RequiredArgsConstructor
+@Slf4j
+public class OpenLoopDriver implements Runnable {
+
+    private final HttpClient httpClient;
+    private final Supplier<HttpRequest> requests;
+    private final EndpointStats stats;
+    private final double ratePerSecond;
+    private final long warmupNanos;
+    private final long durationNanos;
+
+    @Override
+    public void run() {
+        double intervalNanos = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+        long endNanos = warmupNanos + durationNanos;
+        long start = System.nanoTime();
+        long lagWarnings = 0;
+
+        for (long sequence = 0; ; sequence++) {
+            long offset = (long) (sequence * intervalNanos);
+            if (offset >= endNanos) {
+                break;
+            }
+            long intendedStart = start + offset;
+            long delay = intendedStart - System.nanoTime();
+            if (delay > 0) {
+                LockSupport.parkNanos(delay);
+            } else if (-delay > TimeUnit.SECONDS.toNanos(1) && lagWarnings++ % 1000 == 0) {
+                log.warn("{} is {} ms behind its schedule, the generator itself is saturated",
+                        stats.getName(), TimeUnit.NANOSECONDS.toMillis(-delay));
+            }
+
+            boolean measured = offset >= warmupNanos;
+            HttpRequest request = requests.get();
+            stats.onSent();
+            long actualStart = System.nanoTime();
+            httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> stats.onCompleted(
+                            intendedStart, actualStart, response != null ? response.statusCode() : 0, error, measured));
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.shippingmanagement.load_generator.workload;
+
+import com.shippingmanagement.load_generator.dto.OrderItemRequestDto;
+import com.shippingmanagement.load_generator.dto.OrderRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+@Component
+public class OrderMix {
+
+    private final WeightedDistribution<Integer> itemCounts;
+    private final WeightedDistribution<String> destinations;
+    private final ZipfDistribution products;
+    private final int maxQuantity;
+    private final int customerCount;
+
+    public OrderMix(@Value("${app.load.mix.item-counts}") String itemCounts,
+                    @Value("${app.load.mix.destinations}") String destinations,
+                    @Value("${app.load.mix.product-count}") int productCount,
+                    @Value("${app.load.mix.sku-skew}") double skuSkew,
+                    @Value("${app.load.mix.max-quantity}") int maxQuantity,
+                    @Value("${app.load.mix.customer-count}") int customerCount) {
+        this.itemCounts = WeightedDistribution.parse(itemCounts, Integer::valueOf);
+        this.destinations = WeightedDistribution.parse(destinations, value -> value);
+        this.products = new ZipfDistribution(productCount, skuSkew);
+        this.maxQuantity = maxQuantity;
+        this.customerCount = customerCount;
+    }
+
+    public OrderRequest nextOrder() {
+        RandomGenerator random = ThreadLocalRandom.current();
+        return OrderRequest.builder()
+                .customerId("customer-" + (1 + random.nextInt(customerCount)))
+                .destinationCountry(destinations.sample(random))
+                .orderItems(nextItems(random))
+                .build();
+    }
+
+    public List<OrderItemRequestDto> nextItems() {
+        return nextItems(ThreadLocalRandom.current());
+    }
+
+    private List<OrderItemRequestDto> nextItems(RandomGenerator random) {
+        int itemCount = Math.min(itemCounts.sample(random), products.size());
+        Set<Integer> productIds = new LinkedHashSet<>();
+        while (productIds.size() < itemCount) {
+            productIds.add(products.sample(random));
+        }
+
+        List<OrderItemRequestDto> items = new ArrayList<>(itemCount);
+        for (Integer productId : productIds) {
+            items.add(new OrderItemRequestDto(productId, 1 + random.nextInt(maxQuantity)));
+        }
+        return items;
+    }
+}
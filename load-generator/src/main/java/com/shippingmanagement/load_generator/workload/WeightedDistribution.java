@@ -0,0 +1,53 @@
+package com.shippingmanagement.load_generator.workload;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
+
+public class WeightedDistribution<T> {
+
+    private final List<T> values;
+    private final double[] cumulative;
+
+    private WeightedDistribution(List<T> values, double[] cumulative) {
+        this.values = values;
+        this.cumulative = cumulative;
+    }
+
+    public static <T> WeightedDistribution<T> parse(String spec, Function<String, T> parser) {
+        List<T> values = new ArrayList<>();
+        List<Double> weights = new ArrayList<>();
+        for (String entry : spec.split(",")) {
+            int separator = entry.lastIndexOf(':');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Expected value:weight but got " + entry);
+            }
+            double weight = Double.parseDouble(entry.substring(separator + 1).trim());
+            if (weight <= 0) {
+                throw new IllegalArgumentException("Weight must be positive in " + entry);
+            }
+            values.add(parser.apply(entry.substring(0, separator).trim()));
+            weights.add(weight);
+        }
+
+        double total = weights.stream().mapToDouble(Double::doubleValue).sum();
+        double[] cumulative = new double[weights.size()];
+        double running = 0;
+        for (int i = 0; i < weights.size(); i++) {
+            running += weights.get(i);
+            cumulative[i] = running / total;
+        }
+        return new WeightedDistribution<>(values, cumulative);
+    }
+
+    public T sample(RandomGenerator random) {
+        double point = random.nextDouble();
+        for (int i = 0; i < cumulative.length; i++) {
+            if (point < cumulative[i]) {
+                return values.get(i);
+            }
+        }
+        return values.get(values.size() - 1);
+    }
+}
@@ -1,10 +1,12 @@
 package com.shippingmanagement.notification_service.listener;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shippingmanagement.order_service.avro.OrderSubmitted;
 import com.shippingmanagement.notification_service.dto.OrderStatus;
 import com.shippingmanagement.notification_service.dto.OrderStatusEvent;
 import com.shippingmanagement.notification_service.service.OrderStatusService;
 import com.shippingmanagement.notification_service.util.StatusCodeMapper;
+import io.confluent.kafka.serializers.KafkaAvroDeserializer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
@@ -21,19 +23,22 @@ import java.util.Map;
 @Slf4j
 public class OrderListener {
 
+    private static final byte AVRO_MAGIC_BYTE = 0x0;
+
     private final KafkaTemplate<String, String> kafkaTemplate;
     private final ObjectMapper objectMapper;
+    private final KafkaAvroDeserializer orderSubmittedAvroDeserializer;
     private final OrderStatusService orderStatusService;
     private final StatusCodeMapper statusCodeMapper;
 
     @Value("${app.kafka.topics.order-status}")
     private String orderStatusTopic;
 
-    @KafkaListener(topics = "order-submitted", containerFactory = "jsonKafkaListenerContainerFactory")
-    public void handleOrderSubmitted(ConsumerRecord<String, String> record) {
+    @KafkaListener(topics = "order-submitted", containerFactory = "orderSubmittedKafkaListenerContainerFactory")
+    public void handleOrderSubmitted(ConsumerRecord<String, byte[]> record) {
         try {
-            String jsonValue = record.value();
-            log.info("Received order submitted: {}", jsonValue);
+            byte[] payload = record.value();
+            log.info("Received order submitted: key={}, {} bytes", record.key(), payload.length);
 
             String orderIdStr = record.key();
             int orderId = Integer.parseInt(orderIdStr);
@@ -41,11 +46,17 @@ public class OrderListener {
             String customerId = "unknown";
             String destination = "";
             try {
-                Map<String, Object> orderMap = objectMapper.readValue(jsonValue, Map.class);
-                customerId = orderMap.get("customerId") != null ? orderMap.get("customerId").toString() : "unknown";
-                destination = orderMap.get("destinationCountry") != null ? orderMap.get("destinationCountry").toString() : "";
+                if (payload.length > 0 && payload[0] == AVRO_MAGIC_BYTE) {
+                    OrderSubmitted orderSubmitted = (OrderSubmitted) orderSubmittedAvroDeserializer.deserialize(record.topic(), payload);
+                    customerId = orderSubmitted.getCustomerId().toString();
+                    destination = orderSubmitted.getDestinationCountry().toString();
+                } else {
+                    Map<String, Object> orderMap = objectMapper.readValue(payload, Map.class);
+                    customerId = orderMap.get("customerId") != null ? orderMap.get("customerId").toString() : "unknown";
+                    destination = orderMap.get("destinationCountry") != null ? orderMap.get("destinationCountry").toString() : "";
+                }
             } catch (Exception e) {
-                log.warn("Could not parse order JSON for metadata: {}", e.getMessage());
+                log.warn("Could not parse order submitted payload for metadata: {}", e.getMessage());
             }
 
             log.info("Processing submitted order: orderId={}, customerId={}, destination={}", orderId, customerId, destination);
@@ -0,0 +1,124 @@
+package com.shippingmanagement.order_service.client;
+
+import com.shippingmanagement.order_service.dto.BatchInventoryRequest;
+import com.shippingmanagement.order_service.dto.BatchInventoryResponse;
+import com.shippingmanagement.order_service.dto.OrderItemRequestDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+@Slf4j
+public class InventoryBatcher {
+
+    private final InventoryClient inventoryClient;
+    private final int maxBatchSize;
+    private final long maxWaitMs;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "inventory-batcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Object lock = new Object();
+    private List<PendingCheck> buffer = new ArrayList<>();
+    private long generation;
+
+    public InventoryBatcher(InventoryClient inventoryClient,
+                            @Value("${app.inventory-batch.max-size}") int maxBatchSize,
+                            @Value("${app.inventory-batch.max-wait-ms}") long maxWaitMs) {
+        this.inventoryClient = inventoryClient;
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitMs = maxWaitMs;
+    }
+
+    public Mono<BatchInventoryResponse> submit(List<OrderItemRequestDto> orderItems, String reservationKey) {
+        PendingCheck check = new PendingCheck(UUID.randomUUID().toString(), orderItems, reservationKey,
+                new CompletableFuture<>());
+        List<PendingCheck> ready = null;
+
+        synchronized (lock) {
+            buffer.add(check);
+            if (buffer.size() >= maxBatchSize) {
+                ready = drain();
+            } else if (buffer.size() == 1) {
+                long scheduledGeneration = generation;
+                scheduler.schedule(() -> flushIfStill(scheduledGeneration), maxWaitMs, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        if (ready != null) {
+            dispatch(ready);
+        }
+        return Mono.fromFuture(check.result());
+    }
+
+    private void flushIfStill(long scheduledGeneration) {
+        List<PendingCheck> ready;
+        synchronized (lock) {
+            if (generation != scheduledGeneration || buffer.isEmpty()) {
+                return;
+            }
+            ready = drain();
+        }
+        dispatch(ready);
+    }
+
+    private List<PendingCheck> drain() {
+        List<PendingCheck> ready = buffer;
+        buffer = new ArrayList<>();
+        generation++;
+        return ready;
+    }
+
+    private void dispatch(List<PendingCheck> batch) {
+        log.info("Dispatching inventory batch of {} orders", batch.size());
+        List<BatchInventoryRequest> requests = batch.stream()
+                .map(check -> new BatchInventoryRequest(check.orderRef(), check.orderItems(), check.reservationKey()))
+                .collect(Collectors.toList());
+
+        inventoryClient.checkInventoryBatch(requests).subscribe(
+                responses -> {
+                    Map<String, BatchInventoryResponse> byOrderRef = List.of(responses).stream()
+                            .collect(Collectors.toMap(BatchInventoryResponse::getOrderRef, Function.identity()));
+                    batch.forEach(check -> {
+                        BatchInventoryResponse response = byOrderRef.get(check.orderRef());
+                        if (response == null) {
+                            check.result().completeExceptionally(
+                                    new IllegalStateException("No batch result for order " + check.orderRef()));
+                        } else {
+                            check.result().complete(response);
+                        }
+                    });
+                },
+                error -> {
+                    log.error("Inventory batch of {} orders failed: {}", batch.size(), error.getMessage());
+                    batch.forEach(check -> check.result().completeExceptionally(error));
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+
+    private record PendingCheck(String orderRef,
+                                List<OrderItemRequestDto> orderItems,
+                                String reservationKey,
+                                CompletableFuture<BatchInventoryResponse> result) {
+    }
+}
@@ -0,0 +1,60 @@
+package com.shippingmanagement.order_service.client;
+
+import com.shippingmanagement.order_service.dto.BatchInventoryRequest;
+import com.shippingmanagement.order_service.dto.BatchInventoryResponse;
+import com.shippingmanagement.order_service.dto.InventoryResponse;
+import com.shippingmanagement.order_service.dto.OrderItemRequestDto;
+import com.shippingmanagement.order_service.exception.InventoryNotAvailableException;
+import com.shippingmanagement.order_service.exception.InventoryServiceUnavailableException;
+import com.shippingmanagement.order_service.resilience.InventoryCallGuard;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class InventoryClient {
+
+    private final WebClient inventoryWebClient;
+    private final InventoryCallGuard inventoryCallGuard;
+
+    public Mono<InventoryResponse[]> checkInventory(List<OrderItemRequestDto> orderItems, String reservationKey) {
+        return inventoryCallGuard.protect(() -> inventoryWebClient
+                .post()
+                .uri("/api/inventory/check")
+                .headers(headers -> {
+                    if (reservationKey != null) {
+                        headers.set("Idempotency-Key", reservationKey);
+                    }
+                })
+                .bodyValue(orderItems)
+                .retrieve()
+                .onStatus(HttpStatus.BAD_REQUEST::equals,
+                        response -> Mono.error(new InventoryNotAvailableException("Product is out of stock")))
+                .onStatus(HttpStatusCode::isError,
+                        response -> Mono.error(new InventoryServiceUnavailableException(
+                                "Inventory service responded with " + response.statusCode())))
+                .bodyToMono(InventoryResponse[].class)
+                .onErrorMap(error -> !(error instanceof InventoryNotAvailableException),
+                        error -> new InventoryServiceUnavailableException("Inventory service unavailable: " + error.getMessage())));
+    }
+
+    public Mono<BatchInventoryResponse[]> checkInventoryBatch(List<BatchInventoryRequest> orders) {
+        return inventoryCallGuard.protect(() -> inventoryWebClient
+                .post()
+                .uri("/api/inventory/check/batch")
+                .bodyValue(orders)
+                .retrieve()
+                .onStatus(HttpStatusCode::isError,
+                        response -> Mono.error(new InventoryServiceUnavailableException(
+                                "Inventory service responded with " + response.statusCode())))
+                .bodyToMono(BatchInventoryResponse[].class)
+                .onErrorMap(error -> !(error instanceof InventoryNotAvailableException),
+                        error -> new InventoryServiceUnavailableException("Inventory service unavailable: " + error.getMessage())));
+    }
+}
@@ -0,0 +1,46 @@
+package com.shippingmanagement.order_service.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(name = "app.id-sequences.align-on-startup", havingValue = "true")
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+@Slf4j
+public class IdSequenceInitializer {
+
+    private static final int ALLOCATION_SIZE = 50;
+
+    private static final List<SequenceTable> SEQUENCES = List.of(
+            new SequenceTable("orders_seq", "orders", "order_id"),
+            new SequenceTable("order_items_seq", "order_items", "id"),
+            new SequenceTable("order_outbox_seq", "order_outbox", "id")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void alignSequencesWithExistingRows() {
+        for (SequenceTable sequence : SEQUENCES) {
+            Long maxId = jdbcTemplate.queryForObject(
+                    "SELECT COALESCE(MAX(" + sequence.idColumn() + "), 0) FROM " + sequence.table(), Long.class);
+            long floor = maxId + ALLOCATION_SIZE + 1;
+            int updated = jdbcTemplate.update(
+                    "UPDATE " + sequence.name() + " SET next_val = ? WHERE next_val < ?", floor, floor);
+            if (updated > 0) {
+                log.info("Moved {} past existing {} rows to {}", sequence.name(), sequence.table(), floor);
+            }
+        }
+    }
+
+    private record SequenceTable(String name, String table, String idColumn) {
+    }
+}
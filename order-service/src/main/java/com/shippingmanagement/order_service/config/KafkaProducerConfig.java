@@ -0,0 +1,99 @@
+package com.shippingmanagement.order_service.config;
+
+import com.shippingmanagement.order_service.event.OrderIntakeEvent;
+import io.confluent.kafka.serializers.AbstractKafkaSchemaSerDeConfig;
+import io.confluent.kafka.serializers.KafkaAvroSerializer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerProducerListener;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Configuration
+public class KafkaProducerConfig {
+
+    @Value("${spring.kafka.schema-registry-url}")
+    private String schemaRegistryUrl;
+
+    @Value("${app.kafka.producer.order-events.linger-ms}")
+    private int orderEventsLingerMs;
+
+    @Value("${app.kafka.producer.order-events.batch-size}")
+    private int orderEventsBatchSize;
+
+    @Value("${app.kafka.producer.order-events.compression-type}")
+    private String orderEventsCompressionType;
+
+    @Value("${app.kafka.producer.order-events.enable-idempotence}")
+    private boolean orderEventsIdempotence;
+
+    @Value("${app.kafka.producer.order-events.max-in-flight}")
+    private int orderEventsMaxInFlight;
+
+    @Value("${app.outbox.send-timeout-ms}")
+    private int outboxSendTimeoutMs;
+
+    @Bean
+    public ProducerFactory<String, byte[]> outboxProducerFactory(KafkaProperties kafkaProperties, MeterRegistry meterRegistry) {
+        Map<String, Object> props = kafkaProperties.buildProducerProperties(null);
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        props.put(ProducerConfig.LINGER_MS_CONFIG, orderEventsLingerMs);
+        props.put(ProducerConfig.BATCH_SIZE_CONFIG, orderEventsBatchSize);
+        props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, orderEventsCompressionType);
+        props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, orderEventsIdempotence);
+        props.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, orderEventsMaxInFlight);
+        props.put(ProducerConfig.ACKS_CONFIG, "all");
+        props.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, outboxSendTimeoutMs);
+        props.put(ProducerConfig.REQUEST_TIMEOUT_MS_CONFIG, outboxSendTimeoutMs - orderEventsLingerMs);
+        props.put(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG, outboxSendTimeoutMs);
+
+        DefaultKafkaProducerFactory<String, byte[]> factory = new DefaultKafkaProducerFactory<>(props);
+        factory.addListener(new MicrometerProducerListener<>(meterRegistry));
+        return factory;
+    }
+
+    @Bean
+    public KafkaTemplate<String, byte[]> outboxKafkaTemplate(ProducerFactory<String, byte[]> outboxProducerFactory) {
+        return new KafkaTemplate<>(outboxProducerFactory);
+    }
+
+    @Bean(destroyMethod = "close")
+    public KafkaAvroSerializer outboxAvroSerializer() {
+        Map<String, Object> serializerConfig = new HashMap<>();
+        serializerConfig.put(AbstractKafkaSchemaSerDeConfig.SCHEMA_REGISTRY_URL_CONFIG, schemaRegistryUrl);
+        serializerConfig.put(AbstractKafkaSchemaSerDeConfig.AUTO_REGISTER_SCHEMAS, true);
+
+        KafkaAvroSerializer serializer = new KafkaAvroSerializer();
+        serializer.configure(serializerConfig, false);
+        return serializer;
+    }
+
+    @Bean
+    public ProducerFactory<String, OrderIntakeEvent> orderIntakeProducerFactory(KafkaProperties kafkaProperties) {
+        Map<String, Object> props = kafkaProperties.buildProducerProperties(null);
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        props.put(JsonSerializer.ADD_TYPE_INFO_HEADERS, false);
+        props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        props.put(ProducerConfig.ACKS_CONFIG, "all");
+        return new DefaultKafkaProducerFactory<>(props);
+    }
+
+    @Bean
+    public KafkaTemplate<String, OrderIntakeEvent> orderIntakeKafkaTemplate(
+            ProducerFactory<String, OrderIntakeEvent> orderIntakeProducerFactory) {
+        return new KafkaTemplate<>(orderIntakeProducerFactory);
+    }
+}
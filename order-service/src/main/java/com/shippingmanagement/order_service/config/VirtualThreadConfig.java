@@ -0,0 +1,60 @@
+package com.shippingmanagement.order_service.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+@ConditionalOnProperty(name = "app.execution.mode", havingValue = "virtual")
+@Slf4j
+public class VirtualThreadConfig {
+
+    @Bean(destroyMethod = "close")
+    public ExecutorService tomcatVirtualThreadExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer(ExecutorService tomcatVirtualThreadExecutor) {
+        log.info("Running Tomcat request handling on virtual threads");
+        return protocolHandler -> protocolHandler.setExecutor(tomcatVirtualThreadExecutor);
+    }
+
+    @Bean(name = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("order-vt-");
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+
+    @Bean
+    public static BeanPostProcessor virtualThreadHikariCustomizer(Environment environment) {
+        int maxPoolSize = environment.getRequiredProperty("app.execution.virtual.hikari-max-pool-size", Integer.class);
+        long connectionTimeoutMs = environment.getRequiredProperty("app.execution.virtual.hikari-connection-timeout-ms", Long.class);
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    dataSource.setMaximumPoolSize(maxPoolSize);
+                    dataSource.setMinimumIdle(maxPoolSize);
+                    dataSource.setConnectionTimeout(connectionTimeoutMs);
+                    log.info("Sized Hikari pool for virtual threads: maxPoolSize={}, connectionTimeout={}ms",
+                            maxPoolSize, connectionTimeoutMs);
+                }
+                return bean;
+            }
+        };
+    }
+}
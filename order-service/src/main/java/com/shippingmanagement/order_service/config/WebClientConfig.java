@@ -1,14 +1,81 @@
 package com.shippingmanagement.order_service.config;
 
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
 
 @Configuration
 public class WebClientConfig {
 
+    @Value("${app.inventory-service-url}")
+    private String inventoryServiceUrl;
+
+    @Value("${app.inventory-client.max-connections}")
+    private int maxConnections;
+
+    @Value("${app.inventory-client.pending-acquire-max-count}")
+    private int pendingAcquireMaxCount;
+
+    @Value("${app.inventory-client.pending-acquire-timeout-ms}")
+    private long pendingAcquireTimeoutMs;
+
+    @Value("${app.inventory-client.max-idle-time-ms}")
+    private long maxIdleTimeMs;
+
+    @Value("${app.inventory-client.max-life-time-ms}")
+    private long maxLifeTimeMs;
+
+    @Value("${app.inventory-client.connect-timeout-ms}")
+    private int connectTimeoutMs;
+
+    @Value("${app.inventory-client.response-timeout-ms}")
+    private long responseTimeoutMs;
+
+    @Value("${app.inventory-client.protocol}")
+    private HttpProtocol protocol;
+
+    @Value("${app.inventory-client.metrics-enabled}")
+    private boolean metricsEnabled;
+
     @Bean
     public WebClient.Builder webClientBuilder() {
         return WebClient.builder();
     }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider inventoryConnectionProvider() {
+        return ConnectionProvider.builder("inventory-service")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                .maxIdleTime(Duration.ofMillis(maxIdleTimeMs))
+                .maxLifeTime(Duration.ofMillis(maxLifeTimeMs))
+                .evictInBackground(Duration.ofMillis(maxIdleTimeMs))
+                .metrics(metricsEnabled)
+                .build();
+    }
+
+    @Bean
+    public WebClient inventoryWebClient(WebClient.Builder webClientBuilder, ConnectionProvider inventoryConnectionProvider) {
+        HttpClient httpClient = HttpClient.create(inventoryConnectionProvider)
+                .protocol(protocol)
+                .keepAlive(true)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMs))
+                .metrics(metricsEnabled, uri -> "/api/inventory");
+
+        return webClientBuilder.clone()
+                .baseUrl(inventoryServiceUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
 }
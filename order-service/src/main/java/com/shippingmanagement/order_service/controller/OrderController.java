@@ -1,11 +1,16 @@
 package com.shippingmanagement.order_service.controller;
 
 import com.shippingmanagement.order_service.dto.OrderRequest;
+import com.shippingmanagement.order_service.dto.OrderResponse;
+import com.shippingmanagement.order_service.idempotency.IdempotencyService;
+import com.shippingmanagement.order_service.intake.OrderIntakeService;
 import com.shippingmanagement.order_service.service.OrderService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 import jakarta.validation.Valid;
 
@@ -15,10 +20,38 @@ import jakarta.validation.Valid;
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderIntakeService orderIntakeService;
+    private final IdempotencyService idempotencyService;
+
+    @Value("${app.order-intake.mode}")
+    private String orderIntakeMode;
 
     @PostMapping
-    public ResponseEntity<String> createOrder(@Valid @RequestBody OrderRequest orderRequest) {
+    public ResponseEntity<?> createOrder(@Valid @RequestBody OrderRequest orderRequest,
+                                         @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return placeOrder(orderRequest);
+        }
+        return idempotencyService.execute(idempotencyKey, orderRequest, () -> placeOrder(orderRequest));
+    }
+
+    private ResponseEntity<?> placeOrder(OrderRequest orderRequest) {
+        if ("async".equals(orderIntakeMode)) {
+            return new ResponseEntity<>(orderIntakeService.accept(orderRequest), HttpStatus.ACCEPTED);
+        }
         orderService.createOrder(orderRequest);
         return new ResponseEntity<>("{\"message\":\"Order placed successfully\"}", HttpStatus.CREATED);
     }
-}
\ No newline at end of file
+
+    @GetMapping("/tracking/{trackingId}")
+    public ResponseEntity<OrderResponse> getOrderByTrackingId(@PathVariable String trackingId) {
+        return ResponseEntity.ok(orderService.getOrderByTrackingId(trackingId));
+    }
+
+    @PostMapping("/reactive")
+    public Mono<ResponseEntity<OrderResponse>> createOrderReactive(@Valid @RequestBody OrderRequest orderRequest) {
+        return orderService.createOrderReactive(orderRequest)
+                .map(response -> new ResponseEntity<>(response,
+                        "FAILED".equals(response.getStatus()) ? HttpStatus.CONFLICT : HttpStatus.CREATED));
+    }
+}
@@ -0,0 +1,16 @@
+package com.shippingmanagement.order_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchInventoryRequest {
+    private String orderRef;
+    private List<OrderItemRequestDto> orderItems;
+    private String reservationKey;
+}
@@ -0,0 +1,14 @@
+package com.shippingmanagement.order_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchInventoryResponse {
+    private String orderRef;
+    private boolean inStock;
+    private InventoryResponse[] items;
+}
@@ -0,0 +1,17 @@
+package com.shippingmanagement.order_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderResponse {
+
+    private Integer orderId;
+    private String status;
+    private String message;
+}
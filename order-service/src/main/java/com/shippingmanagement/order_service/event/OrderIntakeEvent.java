@@ -0,0 +1,17 @@
+package com.shippingmanagement.order_service.event;
+
+import com.shippingmanagement.order_service.dto.OrderRequest;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderIntakeEvent {
+    private String trackingId;
+    private OrderRequest orderRequest;
+    private LocalDateTime receivedAt;
+}
@@ -0,0 +1,7 @@
+package com.shippingmanagement.order_service.exception;
+
+public class IdempotencyConflictException extends RuntimeException {
+    public IdempotencyConflictException(String message) {
+        super(message);
+    }
+}
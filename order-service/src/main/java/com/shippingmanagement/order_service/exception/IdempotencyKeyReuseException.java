@@ -0,0 +1,7 @@
+package com.shippingmanagement.order_service.exception;
+
+public class IdempotencyKeyReuseException extends RuntimeException {
+    public IdempotencyKeyReuseException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.shippingmanagement.order_service.exception;
+
+public class InventoryServiceUnavailableException extends InventoryNotAvailableException {
+    public InventoryServiceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,168 @@
+package com.shippingmanagement.order_service.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.shippingmanagement.order_service.exception.IdempotencyConflictException;
+import com.shippingmanagement.order_service.exception.IdempotencyKeyReuseException;
+import com.shippingmanagement.order_service.model.IdempotencyRecord;
+import com.shippingmanagement.order_service.repository.IdempotencyRecordRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+
+@Service
+@Slf4j
+public class IdempotencyService implements MeterBinder {
+
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, IdempotencyRecord> completedByKey;
+    private final Duration ttl;
+    private final Duration inProgressTimeout;
+
+    public IdempotencyService(IdempotencyRecordRepository idempotencyRecordRepository,
+                              TransactionTemplate transactionTemplate,
+                              ObjectMapper objectMapper,
+                              @Value("${app.idempotency.max-size}") long maxSize,
+                              @Value("${app.idempotency.ttl-ms}") long ttlMs,
+                              @Value("${app.idempotency.in-progress-timeout-ms}") long inProgressTimeoutMs) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = Duration.ofMillis(ttlMs);
+        this.inProgressTimeout = Duration.ofMillis(inProgressTimeoutMs);
+        this.completedByKey = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public ResponseEntity<?> execute(String key, Object request, Supplier<ResponseEntity<?>> action) {
+        String requestHash = hash(request);
+
+        IdempotencyRecord cached = completedByKey.getIfPresent(key);
+        if (cached != null) {
+            return replay(cached, requestHash);
+        }
+
+        if (!claim(key, requestHash)) {
+            IdempotencyRecord existing = idempotencyRecordRepository.findById(key)
+                    .orElseThrow(() -> new IdempotencyConflictException("Request with Idempotency-Key " + key + " is being retried concurrently"));
+            if (IdempotencyRecord.COMPLETED.equals(existing.getStatus())) {
+                completedByKey.put(key, existing);
+                return replay(existing, requestHash);
+            }
+            verifySameRequest(existing, requestHash);
+            throw new IdempotencyConflictException("Request with Idempotency-Key " + key + " is still being processed");
+        }
+
+        ResponseEntity<?> response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            transactionTemplate.executeWithoutResult(status -> idempotencyRecordRepository.deleteById(key));
+            throw e;
+        }
+
+        complete(key, requestHash, response);
+        return response;
+    }
+
+    @Scheduled(fixedDelayString = "${app.idempotency.cleanup-interval-ms}")
+    public void purgeExpired() {
+        Integer purged = transactionTemplate.execute(status -> idempotencyRecordRepository.deleteExpired(LocalDateTime.now()));
+        if (purged != null && purged > 0) {
+            log.info("Purged {} expired idempotency keys", purged);
+        }
+    }
+
+    private boolean claim(String key, String requestHash) {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    idempotencyRecordRepository.insertClaim(key, requestHash, now, now.plus(ttl)));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            Integer reclaimed = transactionTemplate.execute(status ->
+                    idempotencyRecordRepository.reclaim(key, requestHash, now, now.plus(ttl), now.minus(inProgressTimeout)));
+            return reclaimed != null && reclaimed == 1;
+        }
+    }
+
+    private void complete(String key, String requestHash, ResponseEntity<?> response) {
+        LocalDateTime now = LocalDateTime.now();
+        IdempotencyRecord record = IdempotencyRecord.builder()
+                .idempotencyKey(key)
+                .requestHash(requestHash)
+                .status(IdempotencyRecord.COMPLETED)
+                .responseStatus(response.getStatusCode().value())
+                .responseBody(serializeBody(response.getBody()))
+                .createdAt(now)
+                .expiresAt(now.plus(ttl))
+                .build();
+
+        transactionTemplate.executeWithoutResult(status -> idempotencyRecordRepository.save(record));
+        completedByKey.put(key, record);
+    }
+
+    private ResponseEntity<?> replay(IdempotencyRecord record, String requestHash) {
+        verifySameRequest(record, requestHash);
+        log.info("Replaying stored response for Idempotency-Key {}", record.getIdempotencyKey());
+        return ResponseEntity.status(record.getResponseStatus())
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(REPLAYED_HEADER, "true")
+                .body(record.getResponseBody());
+    }
+
+    private void verifySameRequest(IdempotencyRecord record, String requestHash) {
+        if (!record.getRequestHash().equals(requestHash)) {
+            throw new IdempotencyKeyReuseException("Idempotency-Key " + record.getIdempotencyKey() + " was already used for a different request");
+        }
+    }
+
+    private String serializeBody(Object body) {
+        if (body == null || body instanceof String) {
+            return (String) body;
+        }
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not store response for idempotent request", e);
+        }
+    }
+
+    private String hash(Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(objectMapper.writeValueAsBytes(request)));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Could not fingerprint idempotent request", e);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, completedByKey, "order-idempotency");
+    }
+}
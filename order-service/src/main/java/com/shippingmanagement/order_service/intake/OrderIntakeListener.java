@@ -0,0 +1,27 @@
+package com.shippingmanagement.order_service.intake;
+
+import com.shippingmanagement.order_service.event.OrderIntakeEvent;
+import com.shippingmanagement.order_service.service.OrderService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderIntakeListener {
+
+    private final OrderService orderService;
+
+    @KafkaListener(
+            topics = "${app.kafka.topics.order-intake}",
+            containerFactory = "orderIntakeListenerContainerFactory",
+            concurrency = "${app.order-intake.workers}",
+            autoStartup = "#{'${app.order-intake.mode}' == 'async'}"
+    )
+    public void handleOrderIntake(OrderIntakeEvent event) {
+        log.info("Processing queued order with tracking ID {}", event.getTrackingId());
+        orderService.createOrder(event.getOrderRequest(), event.getTrackingId());
+    }
+}
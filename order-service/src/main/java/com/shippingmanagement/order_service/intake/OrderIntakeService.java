@@ -0,0 +1,52 @@
+package com.shippingmanagement.order_service.intake;
+
+import com.shippingmanagement.order_service.dto.OrderAcceptedResponse;
+import com.shippingmanagement.order_service.dto.OrderRequest;
+import com.shippingmanagement.order_service.event.OrderIntakeEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderIntakeService {
+
+    private final KafkaTemplate<String, OrderIntakeEvent> orderIntakeKafkaTemplate;
+
+    @Value("${app.kafka.topics.order-intake}")
+    private String orderIntakeTopic;
+
+    @Value("${app.order-intake.send-timeout-ms}")
+    private long sendTimeoutMs;
+
+    public OrderAcceptedResponse accept(OrderRequest orderRequest) {
+        String trackingId = UUID.randomUUID().toString();
+        OrderIntakeEvent event = new OrderIntakeEvent(trackingId, orderRequest, LocalDateTime.now());
+
+        try {
+            orderIntakeKafkaTemplate.send(orderIntakeTopic, trackingId, event)
+                    .get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while queueing order " + trackingId, e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("Could not queue order " + trackingId, e);
+        }
+
+        log.info("Accepted order with tracking ID {}", trackingId);
+        return OrderAcceptedResponse.builder()
+                .trackingId(trackingId)
+                .status("ACCEPTED")
+                .message("Order accepted for processing")
+                .build();
+    }
+}
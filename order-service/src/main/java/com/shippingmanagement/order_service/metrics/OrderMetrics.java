@@ -0,0 +1,107 @@
+package com.shippingmanagement.order_service.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+@Component
+public class OrderMetrics {
+
+    private static final String UNKNOWN = "unknown";
+    private static final String OTHER = "other";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, String> trackedDestinations;
+    private final AtomicInteger inFlightOrders = new AtomicInteger();
+
+    public OrderMetrics(MeterRegistry meterRegistry,
+                        @Value("${app.metrics.tracked-destinations}") List<String> trackedDestinations) {
+        this.meterRegistry = meterRegistry;
+        this.trackedDestinations = trackedDestinations.stream()
+                .map(String::trim)
+                .collect(Collectors.toMap(destination -> destination.toLowerCase(Locale.ROOT), Function.identity(),
+                        (first, second) -> first));
+        Gauge.builder("orders.in.flight", inFlightOrders, AtomicInteger::get)
+                .register(meterRegistry);
+    }
+
+    public Timer.Sample startOrder() {
+        inFlightOrders.incrementAndGet();
+        return Timer.start(meterRegistry);
+    }
+
+    public void finishOrder(Timer.Sample sample, String destination, String outcome) {
+        inFlightOrders.decrementAndGet();
+        sample.stop(timer("orders.placement", Tags.of("destination", destination(destination), "outcome", outcome)));
+    }
+
+    public <T> T timeStage(String stage, String destination, Supplier<T> action) {
+        long startedAt = System.nanoTime();
+        String outcome = "failure";
+        try {
+            T result = action.get();
+            outcome = "success";
+            return result;
+        } finally {
+            recordStage(stage, destination, outcome, System.nanoTime() - startedAt);
+        }
+    }
+
+    public void runStage(String stage, String destination, Runnable action) {
+        timeStage(stage, destination, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public <T> Mono<T> timeStage(String stage, String destination, Mono<T> action) {
+        return Mono.defer(() -> {
+            long startedAt = System.nanoTime();
+            return action
+                    .doOnSuccess(result -> recordStage(stage, destination, "success", System.nanoTime() - startedAt))
+                    .doOnError(error -> recordStage(stage, destination, "failure", System.nanoTime() - startedAt));
+        });
+    }
+
+    public void recordFailure(String reason, String destination) {
+        Counter.builder("orders.failures")
+                .tag("reason", reason)
+                .tag("destination", destination(destination))
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private void recordStage(String stage, String destination, String outcome, long durationNanos) {
+        timer("orders.stage", Tags.of("stage", stage, "destination", destination(destination), "outcome", outcome))
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer timer(String name, Tags tags) {
+        return Timer.builder(name)
+                .tags(tags)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private String destination(String destination) {
+        if (destination == null || destination.isBlank()) {
+            return UNKNOWN;
+        }
+        return trackedDestinations.getOrDefault(destination.trim().toLowerCase(Locale.ROOT), OTHER);
+    }
+}
@@ -11,7 +11,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = @Index(name = "uk_orders_tracking_id", columnList = "tracking_id", unique = true))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -19,10 +19,14 @@ import java.util.List;
 public class Order {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+    @SequenceGenerator(name = "orders_seq", sequenceName = "orders_seq", allocationSize = 50)
     @Column(name = "order_id")
     private Integer orderId;
 
+    @Column(name = "tracking_id", length = 36)
+    private String trackingId;
+
     @Column(name = "customer_id", length = 36)
     private String customerId;
 
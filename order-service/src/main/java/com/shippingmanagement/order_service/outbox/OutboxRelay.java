@@ -0,0 +1,159 @@
+package com.shippingmanagement.order_service.outbox;
+
+import com.shippingmanagement.order_service.model.OutboxEvent;
+import com.shippingmanagement.order_service.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Component
+@Slf4j
+public class OutboxRelay {
+
+    private static final String OTHER_TOPIC = "other";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final KafkaTemplate<String, byte[]> outboxKafkaTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long claimTimeoutMs;
+    private final AtomicInteger inFlightSends = new AtomicInteger();
+    private final Map<String, SendMeters> sendMetersByTopic;
+    private final SendMeters otherTopicMeters;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       KafkaTemplate<String, byte[]> outboxKafkaTemplate,
+                       TransactionTemplate transactionTemplate,
+                       MeterRegistry meterRegistry,
+                       @Value("${app.outbox.batch-size}") int batchSize,
+                       @Value("${app.outbox.claim-timeout-ms}") long claimTimeoutMs,
+                       @Value("${app.kafka.topics.order-submitted}") String orderSubmittedTopic,
+                       @Value("${app.kafka.topics.order-inventory-dlt}") String orderDltTopic) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxKafkaTemplate = outboxKafkaTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.claimTimeoutMs = claimTimeoutMs;
+        this.sendMetersByTopic = Stream.of(orderSubmittedTopic, orderDltTopic)
+                .distinct()
+                .collect(Collectors.toMap(topic -> topic, topic -> SendMeters.register(meterRegistry, topic)));
+        this.otherTopicMeters = SendMeters.register(meterRegistry, OTHER_TOPIC);
+        meterRegistry.gauge("order.events.send.in-flight", inFlightSends);
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms}")
+    public void relay() {
+        List<OutboxEvent> batch = transactionTemplate.execute(status -> claimNextBatch());
+        if (batch == null || batch.isEmpty()) {
+            return;
+        }
+
+        List<CompletableFuture<SendResult<String, byte[]>>> sends = new ArrayList<>(batch.size());
+        for (OutboxEvent event : batch) {
+            sends.add(send(event));
+        }
+        CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).exceptionally(error -> null).join();
+
+        List<Long> sentIds = new ArrayList<>(batch.size());
+        List<Long> retryIds = new ArrayList<>();
+        Set<String> failedKeys = new HashSet<>();
+        for (int i = 0; i < batch.size(); i++) {
+            OutboxEvent event = batch.get(i);
+            boolean sent = !sends.get(i).isCompletedExceptionally();
+            if (sent && (event.getEventKey() == null || !failedKeys.contains(event.getEventKey()))) {
+                sentIds.add(event.getId());
+            } else {
+                retryIds.add(event.getId());
+                if (event.getEventKey() != null) {
+                    failedKeys.add(event.getEventKey());
+                }
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!sentIds.isEmpty()) {
+                outboxEventRepository.deleteAllByIdInBatch(sentIds);
+            }
+            if (!retryIds.isEmpty()) {
+                outboxEventRepository.releaseClaims(retryIds);
+            }
+        });
+        log.info("Relayed {} of {} outbox events", sentIds.size(), batch.size());
+    }
+
+    private List<OutboxEvent> claimNextBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> batch = outboxEventRepository.findNextBatchForRelay(now, PageRequest.of(0, batchSize));
+        if (!batch.isEmpty()) {
+            outboxEventRepository.claim(batch.stream().map(OutboxEvent::getId).collect(Collectors.toList()),
+                    now.plusNanos(TimeUnit.MILLISECONDS.toNanos(claimTimeoutMs)));
+        }
+        return batch;
+    }
+
+    private CompletableFuture<SendResult<String, byte[]>> send(OutboxEvent event) {
+        long startedAt = System.nanoTime();
+        SendMeters meters = sendMetersByTopic.getOrDefault(event.getTopic(), otherTopicMeters);
+        inFlightSends.incrementAndGet();
+
+        CompletableFuture<SendResult<String, byte[]>> send;
+        try {
+            send = outboxKafkaTemplate.send(event.getTopic(), event.getEventKey(), event.getPayload());
+        } catch (RuntimeException e) {
+            send = CompletableFuture.failedFuture(e);
+        }
+
+        return send.whenComplete((result, error) -> {
+            inFlightSends.decrementAndGet();
+            long elapsedNanos = System.nanoTime() - startedAt;
+            if (error == null) {
+                meters.success().record(elapsedNanos, TimeUnit.NANOSECONDS);
+                return;
+            }
+            meters.failure().record(elapsedNanos, TimeUnit.NANOSECONDS);
+            meters.failures().increment();
+            log.warn("Outbox event {} to {} not sent, will retry: {}",
+                    event.getId(), event.getTopic(), error.getMessage());
+        });
+    }
+
+    private record SendMeters(Timer success, Timer failure, Counter failures) {
+
+        static SendMeters register(MeterRegistry registry, String topic) {
+            return new SendMeters(
+                    timer(registry, topic, "success"),
+                    timer(registry, topic, "failure"),
+                    Counter.builder("order.events.send.failures")
+                            .tag("topic", topic)
+                            .register(registry));
+        }
+
+        private static Timer timer(MeterRegistry registry, String topic, String outcome) {
+            return Timer.builder("order.events.send")
+                    .tag("topic", topic)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(registry);
+        }
+    }
+}
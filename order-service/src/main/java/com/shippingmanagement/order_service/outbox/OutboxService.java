@@ -0,0 +1,50 @@
+package com.shippingmanagement.order_service.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shippingmanagement.order_service.model.OutboxEvent;
+import com.shippingmanagement.order_service.repository.OutboxEventRepository;
+import io.confluent.kafka.serializers.KafkaAvroSerializer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.specific.SpecificRecord;
+import org.springframework.kafka.support.JacksonUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxService {
+
+    private final ObjectMapper eventMapper = JacksonUtils.enhancedObjectMapper();
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final KafkaAvroSerializer outboxAvroSerializer;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(String topic, String key, Object event) {
+        OutboxEvent outboxEvent = OutboxEvent.builder()
+                .topic(topic)
+                .eventKey(key)
+                .payload(serialize(topic, event))
+                .createdAt(LocalDateTime.now())
+                .build();
+        outboxEventRepository.save(outboxEvent);
+        log.info("Queued {} event with key {} in outbox", topic, key);
+    }
+
+    private byte[] serialize(String topic, Object event) {
+        if (event instanceof SpecificRecord) {
+            return outboxAvroSerializer.serialize(topic, event);
+        }
+        try {
+            return eventMapper.writeValueAsBytes(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize outbox event " + event, e);
+        }
+    }
+}
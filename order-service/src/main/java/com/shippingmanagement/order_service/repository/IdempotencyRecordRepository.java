@@ -0,0 +1,37 @@
+package com.shippingmanagement.order_service.repository;
+
+import com.shippingmanagement.order_service.model.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    @Modifying
+    @Query(value = "INSERT INTO order_idempotency_keys (idempotency_key, request_hash, status, created_at, expires_at) " +
+            "VALUES (:key, :requestHash, 'IN_PROGRESS', :now, :expiresAt)", nativeQuery = true)
+    void insertClaim(@Param("key") String key,
+                     @Param("requestHash") String requestHash,
+                     @Param("now") LocalDateTime now,
+                     @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.requestHash = :requestHash, r.status = 'IN_PROGRESS', " +
+            "r.responseStatus = null, r.responseBody = null, r.createdAt = :now, r.expiresAt = :expiresAt " +
+            "WHERE r.idempotencyKey = :key " +
+            "AND (r.expiresAt < :now OR (r.status = 'IN_PROGRESS' AND r.createdAt < :staleBefore))")
+    int reclaim(@Param("key") String key,
+                @Param("requestHash") String requestHash,
+                @Param("now") LocalDateTime now,
+                @Param("expiresAt") LocalDateTime expiresAt,
+                @Param("staleBefore") LocalDateTime staleBefore);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
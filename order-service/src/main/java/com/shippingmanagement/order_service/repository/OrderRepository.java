@@ -5,9 +5,12 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Integer> {
     List<Order> findByDestinationCountry(String destinationCountry);
     List<Order> findByCustomerId(String customerId);
+    Optional<Order> findByTrackingId(String trackingId);
+    boolean existsByTrackingId(String trackingId);
 }
@@ -0,0 +1,121 @@
+package com.shippingmanagement.order_service.resilience;
+
+import com.shippingmanagement.order_service.exception.InventoryNotAvailableException;
+import com.shippingmanagement.order_service.exception.InventoryServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+@Component
+@Slf4j
+public class InventoryCallGuard implements MeterBinder {
+
+    private final CircuitBreaker circuitBreaker;
+    private final Semaphore bulkhead;
+    private final AdaptiveConcurrencyLimiter limiter;
+    private MeterRegistry meterRegistry;
+
+    public InventoryCallGuard(@Value("${app.inventory-client.resilience.circuit-breaker.window-size}") int windowSize,
+                              @Value("${app.inventory-client.resilience.circuit-breaker.minimum-calls}") int minimumCalls,
+                              @Value("${app.inventory-client.resilience.circuit-breaker.failure-rate-threshold}") int failureRateThreshold,
+                              @Value("${app.inventory-client.resilience.circuit-breaker.open-duration-ms}") long openDurationMs,
+                              @Value("${app.inventory-client.resilience.circuit-breaker.half-open-calls}") int halfOpenCalls,
+                              @Value("${app.inventory-client.resilience.bulkhead.max-concurrent}") int maxConcurrent,
+                              @Value("${app.inventory-client.resilience.limiter.initial-limit}") int initialLimit,
+                              @Value("${app.inventory-client.resilience.limiter.min-limit}") int minLimit,
+                              @Value("${app.inventory-client.resilience.limiter.max-limit}") int maxLimit,
+                              @Value("${app.inventory-client.resilience.limiter.backoff-ratio}") double backoffRatio,
+                              @Value("${app.inventory-client.resilience.limiter.latency-tolerance}") double latencyTolerance) {
+        this.circuitBreaker = new CircuitBreaker("inventory-service", windowSize, minimumCalls,
+                failureRateThreshold, openDurationMs, halfOpenCalls);
+        this.bulkhead = new Semaphore(maxConcurrent);
+        this.limiter = new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, backoffRatio, latencyTolerance);
+    }
+
+    public <T> Mono<T> protect(Supplier<Mono<T>> call) {
+        return Mono.defer(() -> {
+            Optional<CircuitBreaker.Permit> acquired = circuitBreaker.tryAcquirePermission();
+            if (acquired.isEmpty()) {
+                return reject("circuit-open", "Inventory service circuit breaker is open");
+            }
+            CircuitBreaker.Permit permit = acquired.get();
+            if (!bulkhead.tryAcquire()) {
+                circuitBreaker.onCancelled(permit);
+                return reject("bulkhead-full", "Inventory service bulkhead is full");
+            }
+            if (!limiter.tryAcquire()) {
+                bulkhead.release();
+                circuitBreaker.onCancelled(permit);
+                return reject("limit-reached", "Inventory service concurrency limit reached");
+            }
+
+            long startedAt = System.nanoTime();
+            AtomicBoolean completed = new AtomicBoolean();
+            return Mono.defer(call)
+                    .doOnSuccess(result -> {
+                        completed.set(true);
+                        onSuccess(permit, startedAt);
+                    })
+                    .doOnError(error -> {
+                        completed.set(true);
+                        if (isServiceFailure(error)) {
+                            circuitBreaker.onFailure(permit);
+                            limiter.onDropped();
+                        } else {
+                            onSuccess(permit, startedAt);
+                        }
+                    })
+                    .doFinally(signal -> {
+                        if (!completed.get()) {
+                            circuitBreaker.onCancelled(permit);
+                            limiter.onIgnored();
+                        }
+                        bulkhead.release();
+                    });
+        });
+    }
+
+    private void onSuccess(CircuitBreaker.Permit permit, long startedAt) {
+        circuitBreaker.onSuccess(permit);
+        limiter.onSuccess(System.nanoTime() - startedAt);
+    }
+
+    private boolean isServiceFailure(Throwable error) {
+        return error instanceof InventoryServiceUnavailableException
+                || !(error instanceof InventoryNotAvailableException);
+    }
+
+    private <T> Mono<T> reject(String reason, String message) {
+        if (meterRegistry != null) {
+            Counter.builder("inventory.client.rejected")
+                    .tag("reason", reason)
+                    .register(meterRegistry)
+                    .increment();
+        }
+        log.warn("Rejected inventory call: {}", message);
+        return Mono.error(new InventoryServiceUnavailableException(message));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.meterRegistry = registry;
+        Gauge.builder("inventory.client.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .register(registry);
+        Gauge.builder("inventory.client.bulkhead.available", bulkhead, Semaphore::availablePermits)
+                .register(registry);
+        Gauge.builder("inventory.client.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .register(registry);
+        Gauge.builder("inventory.client.concurrency.in-flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .register(registry);
+    }
+}
@@ -1,20 +1,31 @@
 package com.shippingmanagement.order_service.service;
 
+import com.shippingmanagement.order_service.avro.OrderSubmitted;
+import com.shippingmanagement.order_service.avro.OrderSubmittedItem;
+import com.shippingmanagement.order_service.client.InventoryBatcher;
+import com.shippingmanagement.order_service.client.InventoryClient;
 import com.shippingmanagement.order_service.dto.*;
 import com.shippingmanagement.order_service.event.OrderPlacedEvent;
 import com.shippingmanagement.order_service.exception.InventoryNotAvailableException;
+import com.shippingmanagement.order_service.exception.InventoryServiceUnavailableException;
+import com.shippingmanagement.order_service.metrics.OrderMetrics;
 import com.shippingmanagement.order_service.model.Order;
 import com.shippingmanagement.order_service.model.OrderItem;
+import com.shippingmanagement.order_service.outbox.OutboxService;
 import com.shippingmanagement.order_service.repository.OrderRepository;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -26,11 +37,14 @@ import java.util.stream.Collectors;
 public class OrderService {
 
     private final OrderRepository orderRepository;
-    private final WebClient.Builder webClientBuilder;
-    private final KafkaTemplate<String, OrderPlacedEvent> kafkaTemplate;
+    private final InventoryClient inventoryClient;
+    private final InventoryBatcher inventoryBatcher;
+    private final OutboxService outboxService;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderMetrics orderMetrics;
 
-    @Value("${app.inventory-service-url}")
-    private String inventoryServiceUrl;
+    @Value("${app.inventory-batch.enabled}")
+    private boolean inventoryBatchEnabled;
 
     @Value("${app.kafka.topics.order-submitted}")
     private String orderSubmittedTopic;
@@ -38,28 +52,121 @@ public class OrderService {
     @Value("${app.kafka.topics.order-inventory-dlt}")
     private String orderDltTopic;
 
+    @Value("${app.kafka.order-submitted-format}")
+    private String orderSubmittedFormat;
 
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void createOrder(OrderRequest orderRequest) {
+        createOrder(orderRequest, null);
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void createOrder(OrderRequest orderRequest, String trackingId) {
+        if (trackingId != null && orderRepository.existsByTrackingId(trackingId)) {
+            log.info("Order with tracking ID {} was already placed, skipping redelivery", trackingId);
+            return;
+        }
         log.info("Creating new order with {} items", orderRequest.getOrderItems().size());
-        Order order = buildOrder(orderRequest);
-        log.info("Order had been generated: {} ", order.getOrderId());
+        String destination = orderRequest.getDestinationCountry();
+        Timer.Sample placement = orderMetrics.startOrder();
+        String outcome = "error";
         try {
-            attemptOrderPlacement(order);
-        } catch (InventoryNotAvailableException e) {
-            log.warn("Inventory failure for order {}: {}", order.getOrderId(), e.getMessage());
-            handleInventoryFailure(order, e.getMessage());
+            Order order = orderMetrics.timeStage("build", destination, () -> buildOrder(orderRequest));
+            order.setTrackingId(trackingId);
+            log.info("Order had been generated: {} ", order.getOrderId());
+            try {
+                attemptOrderPlacement(order);
+                outcome = "submitted";
+            } catch (InventoryNotAvailableException e) {
+                log.warn("Inventory failure for order {}: {}", order.getOrderId(), e.getMessage());
+                handleInventoryFailure(order, e);
+                outcome = "failed";
+            }
+        } finally {
+            orderMetrics.finishOrder(placement, destination, outcome);
+        }
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Mono<OrderResponse> createOrderReactive(OrderRequest orderRequest) {
+        return Mono.defer(() -> {
+            log.info("Creating new order (reactive) with {} items", orderRequest.getOrderItems().size());
+            String destination = orderRequest.getDestinationCountry();
+            Timer.Sample placement = orderMetrics.startOrder();
+            Order order = orderMetrics.timeStage("build", destination, () -> buildOrder(orderRequest));
+
+            return orderMetrics.timeStage("inventory", destination, checkInventoryReactive(toOrderItemsDto(order), null))
+                    .then(saveOrderReactive(order))
+                    .map(savedOrder -> OrderResponse.builder()
+                            .orderId(savedOrder.getOrderId())
+                            .status("SUBMITTED")
+                            .message("Order placed successfully")
+                            .build())
+                    .onErrorResume(InventoryNotAvailableException.class, e -> {
+                        log.warn("Inventory failure for order {}: {}", order.getOrderId(), e.getMessage());
+                        return Mono.fromRunnable(() -> handleInventoryFailure(order, e))
+                                .subscribeOn(Schedulers.boundedElastic())
+                                .thenReturn(OrderResponse.builder()
+                                        .status("FAILED")
+                                        .message(e.getMessage())
+                                        .build());
+                    })
+                    .doOnSuccess(response -> orderMetrics.finishOrder(placement, destination, response.getStatus().toLowerCase()))
+                    .doOnError(error -> orderMetrics.finishOrder(placement, destination, "error"))
+                    .doOnCancel(() -> orderMetrics.finishOrder(placement, destination, "cancelled"));
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public OrderResponse getOrderByTrackingId(String trackingId) {
+        return orderRepository.findByTrackingId(trackingId)
+                .map(order -> OrderResponse.builder()
+                        .orderId(order.getOrderId())
+                        .status("SUBMITTED")
+                        .message("Order placed successfully")
+                        .build())
+                .orElseGet(() -> OrderResponse.builder()
+                        .status("PENDING")
+                        .message("Order is queued or was rejected, check the order status page")
+                        .build());
+    }
+
+    private Mono<Void> checkInventoryReactive(List<OrderItemRequestDto> orderItems, String reservationKey) {
+        return requestInventory(orderItems, reservationKey)
+                .switchIfEmpty(Mono.error(new InventoryNotAvailableException("No response from inventory service")))
+                .flatMap(inventoryResponses -> {
+                    if (Arrays.stream(inventoryResponses).allMatch(InventoryResponse::isInStock)) {
+                        log.info("All products available");
+                        return Mono.<Void>empty();
+                    }
+                    log.warn("Stock unavailable for order.");
+                    return Mono.error(new InventoryNotAvailableException("Inventory out of quantity for certain product"));
+                })
+                .onErrorMap(e -> !(e instanceof InventoryNotAvailableException), e -> {
+                    log.error("Check inventory Failed: {}", e.getMessage());
+                    return new InventoryServiceUnavailableException("Inventory service unavailable");
+                });
+    }
+
+    private Mono<Order> saveOrderReactive(Order order) {
+        return Mono.fromCallable(() -> {
+                    saveOrder(order);
+                    return order;
+                })
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Mono<InventoryResponse[]> requestInventory(List<OrderItemRequestDto> orderItems, String reservationKey) {
+        if (inventoryBatchEnabled) {
+            return inventoryBatcher.submit(orderItems, reservationKey).map(BatchInventoryResponse::getItems);
         }
+        return inventoryClient.checkInventory(orderItems, reservationKey);
     }
 
-    private boolean checkInventory(List<OrderItemRequestDto> orderItems) {
+    private boolean checkInventory(List<OrderItemRequestDto> orderItems, String reservationKey) {
         try {
-            InventoryResponse[] inventoryResponses = webClientBuilder.build()
-                    .post()
-                    .uri(inventoryServiceUrl + "/api/inventory/check")
-                    .bodyValue(orderItems)
-                    .retrieve()
-                    .bodyToMono(InventoryResponse[].class)
-                    .block();
+            InventoryResponse[] inventoryResponses = requestInventory(orderItems, reservationKey).block();
 
             if (inventoryResponses == null) {
                 throw new InventoryNotAvailableException("No response from inventory service");
@@ -76,13 +183,11 @@ public class OrderService {
 
             return true;
 
+        } catch (InventoryNotAvailableException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Check inventory Failed: {}", e.getMessage());
-            if (e.getMessage() != null && e.getMessage().contains("400 Bad Request")) {
-                throw new InventoryNotAvailableException("Product is out of stock");
-            } else {
-                throw new InventoryNotAvailableException("Inventory service unavailable");
-            }
+            throw new InventoryServiceUnavailableException("Inventory service unavailable");
         }
     }
 
@@ -110,30 +215,39 @@ public class OrderService {
     }
 
 
-    private void attemptOrderPlacement(Order order) {
-        List<OrderItemRequestDto> orderItemsDto = order.getOrderItems().stream()
+    private List<OrderItemRequestDto> toOrderItemsDto(Order order) {
+        return order.getOrderItems().stream()
                 .map(item -> new OrderItemRequestDto(item.getProductId(), item.getQuantity()))
                 .collect(Collectors.toList());
+    }
+
+    private void attemptOrderPlacement(Order order) {
+        List<OrderItemRequestDto> orderItemsDto = toOrderItemsDto(order);
 
         log.info("Attempting to submit order item {}", orderItemsDto);
 
-        if (checkInventory(orderItemsDto)) {
+        if (orderMetrics.timeStage("inventory", order.getDestinationCountry(), () -> checkInventory(orderItemsDto, order.getTrackingId()))) {
             log.info("All products available");
             saveOrder(order);
-            publishOrderSubmitted(order);
         }
     }
 
 
     private void publishOrderSubmitted(Order order) {
-        OrderPlacedEvent orderPlacedEvent = buildOrderPlacedEvent(order);
-        kafkaTemplate.send(orderSubmittedTopic, String.valueOf(order.getOrderId()), orderPlacedEvent);
+        Object orderSubmittedEvent = "avro".equalsIgnoreCase(orderSubmittedFormat)
+                ? buildOrderSubmitted(order)
+                : buildOrderPlacedEvent(order);
+        outboxService.enqueue(orderSubmittedTopic, String.valueOf(order.getOrderId()), orderSubmittedEvent);
         log.info("Published order submitted event for order ID: {}", order.getOrderId());
     }
 
-    private void handleInventoryFailure(Order order, String reason) {
+    private void handleInventoryFailure(Order order, InventoryNotAvailableException cause) {
         log.warn("Order {} has failed", order.getOrderId());
-        kafkaTemplate.send(orderDltTopic, String.valueOf(order.getOrderId()),  buildOrderPlacedEvent(order));
+        String reason = cause instanceof InventoryServiceUnavailableException ? "inventory-unavailable" : "out-of-stock";
+        orderMetrics.recordFailure(reason, order.getDestinationCountry());
+        orderMetrics.runStage("failure", order.getDestinationCountry(), () ->
+                transactionTemplate.executeWithoutResult(status ->
+                        outboxService.enqueue(orderDltTopic, String.valueOf(order.getOrderId()), buildOrderPlacedEvent(order))));
     }
 
     private OrderPlacedEvent buildOrderPlacedEvent(Order order) {
@@ -142,14 +256,29 @@ public class OrderService {
                 order.getCustomerId(),
                 order.getDestinationCountry(),
                 order.getCreatedAt(),
-                order.getOrderItems().stream()
-                        .map(item -> new OrderItemRequestDto(item.getProductId(), item.getQuantity()))
-                        .collect(Collectors.toList())
+                toOrderItemsDto(order)
         );
     }
 
+    private OrderSubmitted buildOrderSubmitted(Order order) {
+        return OrderSubmitted.newBuilder()
+                .setOrderId(order.getOrderId())
+                .setCustomerId(order.getCustomerId())
+                .setDestinationCountry(order.getDestinationCountry())
+                .setCreatedAt(order.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant())
+                .setOrderItems(order.getOrderItems().stream()
+                        .map(item -> new OrderSubmittedItem(item.getProductId(), item.getQuantity()))
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
     private void saveOrder(Order order) {
-        orderRepository.save(order);
-        log.info("Order saved to database with ID: {}", order.getOrderId());
+        String destination = order.getDestinationCountry();
+        orderMetrics.runStage("db-save", destination, () ->
+                transactionTemplate.executeWithoutResult(status -> {
+                    orderRepository.save(order);
+                    log.info("Order saved to database with ID: {}", order.getOrderId());
+                    orderMetrics.runStage("publish", destination, () -> publishOrderSubmitted(order));
+                }));
     }
 }
\ No newline at end of file
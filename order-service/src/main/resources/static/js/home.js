@@ -17,6 +17,8 @@ document.addEventListener('DOMContentLoaded', function() {
 
     const apiUrl = 'http://localhost:8085/api/orders';
 
+    let pendingSubmission = null;
+
     addProductBtn.addEventListener('click', function() {
         let productOptions = '<option value="">Select Product</option>';
         products.forEach(product => {
@@ -98,26 +100,54 @@ document.addEventListener('DOMContentLoaded', function() {
             destinationCountry: destinationCountry,
             orderItems: orderItems
         };
+        const body = JSON.stringify(order);
+        if (!pendingSubmission || pendingSubmission.body !== body) {
+            pendingSubmission = { body: body, idempotencyKey: newIdempotencyKey() };
+        }
+        const submission = pendingSubmission;
 
         showAlert('Processing your order...', 'success', false);
         scrollToNotification();
 
-        setTimeout(() => {
-            showAlert('Order submitted successfully! View details in Order Status', 'success', true);
-            resetForm();
-        }, 1500);
+        fetch(apiUrl, {
+            method: 'POST',
+            headers: {
+                'Content-Type': 'application/json',
+                'Idempotency-Key': submission.idempotencyKey
+            },
+            body: submission.body
+        })
+            .then(response => {
+                if (response.status === 409) {
+                    showAlert('Your order is still being processed, please wait before submitting again', 'danger');
+                    return;
+                }
+                if (pendingSubmission === submission) {
+                    pendingSubmission = null;
+                }
+                if (response.ok) {
+                    showAlert('Order submitted successfully! View details in Order Status', 'success', true);
+                    resetForm();
+                } else {
+                    showAlert('Order could not be placed, please check the details and try again', 'danger');
+                }
+            })
+            .catch(() => {
+                showAlert('Could not reach the order service, please submit the order again', 'danger');
+            })
+            .finally(scrollToNotification);
+    });
 
-        try {
-            fetch(apiUrl, {
-                method: 'POST',
-                headers: { 'Content-Type': 'application/json' },
-                body: JSON.stringify(order)
-            });
-            console.log('Order sent to backend');
-        } catch (e) {
-            console.log('Error sending order (ignored)');
+    function newIdempotencyKey() {
+        if (window.crypto && typeof crypto.randomUUID === 'function') {
+            return crypto.randomUUID();
         }
-    });
+        const bytes = crypto.getRandomValues(new Uint8Array(16));
+        bytes[6] = (bytes[6] & 0x0f) | 0x40;
+        bytes[8] = (bytes[8] & 0x3f) | 0x80;
+        const hex = Array.from(bytes, b => b.toString(16).padStart(2, '0')).join('');
+        return `${hex.slice(0, 8)}-${hex.slice(8, 12)}-${hex.slice(12, 16)}-${hex.slice(16, 20)}-${hex.slice(20)}`;
+    }
 
     function scrollToNotification() {
         window.scrollTo({
@@ -0,0 +1,111 @@
+package com.shippingmanagement.order_service.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+
+    @Test
+    void opensOnceFailureRateReachesThresholdAfterMinimumCalls() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 10, 4, 50, 60_000, 2);
+
+        breaker.onSuccess(acquire(breaker));
+        breaker.onFailure(acquire(breaker));
+        breaker.onSuccess(acquire(breaker));
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        breaker.onFailure(acquire(breaker));
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquirePermission()).isEmpty();
+    }
+
+    @Test
+    void halfOpenAdmitsLimitedProbesAndClosesWhenTheySucceed() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 10, 2, 50, 0, 2);
+        trip(breaker);
+
+        CircuitBreaker.Permit first = acquire(breaker);
+        CircuitBreaker.Permit second = acquire(breaker);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquirePermission()).isEmpty();
+
+        breaker.onSuccess(first);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        breaker.onSuccess(second);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void failedProbeReopens() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 10, 2, 50, 0, 2);
+        trip(breaker);
+
+        breaker.onFailure(acquire(breaker));
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void cancelledProbeFreesItsSlot() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 10, 2, 50, 0, 1);
+        trip(breaker);
+
+        breaker.onCancelled(acquire(breaker));
+
+        assertThat(breaker.tryAcquirePermission()).isPresent();
+    }
+
+    @Test
+    void lateSuccessAdmittedWhileClosedIsNotCountedAsProbe() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 10, 2, 50, 0, 2);
+        CircuitBreaker.Permit slowCall = acquire(breaker);
+        trip(breaker);
+        CircuitBreaker.Permit probe = acquire(breaker);
+
+        breaker.onSuccess(slowCall);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquirePermission()).isPresent();
+        assertThat(breaker.tryAcquirePermission()).isEmpty();
+        breaker.onSuccess(probe);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+    }
+
+    @Test
+    void lateFailureAdmittedWhileClosedDoesNotReopen() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 10, 2, 50, 0, 1);
+        CircuitBreaker.Permit slowCall = acquire(breaker);
+        trip(breaker);
+        CircuitBreaker.Permit probe = acquire(breaker);
+
+        breaker.onFailure(slowCall);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+
+        breaker.onSuccess(probe);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void closingResetsTheFailureWindow() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 10, 2, 50, 0, 1);
+        trip(breaker);
+        breaker.onSuccess(acquire(breaker));
+
+        breaker.onFailure(acquire(breaker));
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    private static CircuitBreaker.Permit acquire(CircuitBreaker breaker) {
+        return breaker.tryAcquirePermission().orElseThrow();
+    }
+
+    private static void trip(CircuitBreaker breaker) {
+        while (breaker.getState() == CircuitBreaker.State.CLOSED) {
+            breaker.onFailure(acquire(breaker));
+        }
+    }
+}
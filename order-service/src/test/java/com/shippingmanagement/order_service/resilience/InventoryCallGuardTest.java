@@ -0,0 +1,66 @@
+package com.shippingmanagement.order_service.resilience;
+
+import com.shippingmanagement.order_service.exception.InventoryNotAvailableException;
+import com.shippingmanagement.order_service.exception.InventoryServiceUnavailableException;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InventoryCallGuardTest {
+
+    @Test
+    void rejectsWithoutCallingOnceServiceFailuresOpenTheCircuit() {
+        InventoryCallGuard guard = newGuard(2);
+        AtomicInteger calls = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> guard.protect(() -> {
+                calls.incrementAndGet();
+                return Mono.error(new InventoryServiceUnavailableException("down"));
+            }).block()).isInstanceOf(InventoryServiceUnavailableException.class);
+        }
+
+        assertThatThrownBy(() -> guard.protect(() -> {
+            calls.incrementAndGet();
+            return Mono.just("ok");
+        }).block())
+                .isInstanceOf(InventoryServiceUnavailableException.class)
+                .hasMessageContaining("circuit breaker is open");
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void outOfStockResponsesDoNotOpenTheCircuit() {
+        InventoryCallGuard guard = newGuard(2);
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> guard.protect(() -> Mono.error(new InventoryNotAvailableException("out of stock")))
+                    .block()).isNotInstanceOf(InventoryServiceUnavailableException.class);
+        }
+
+        assertThat(guard.protect(() -> Mono.just("ok")).block()).isEqualTo("ok");
+    }
+
+    @Test
+    void bulkheadRejectsCallsBeyondItsPermitsUntilOneIsReleased() {
+        InventoryCallGuard guard = newGuard(1);
+        Disposable pending = guard.protect(Mono::never).subscribe();
+
+        assertThatThrownBy(() -> guard.protect(() -> Mono.just("ok")).block())
+                .isInstanceOf(InventoryServiceUnavailableException.class)
+                .hasMessageContaining("bulkhead is full");
+
+        pending.dispose();
+
+        assertThat(guard.protect(() -> Mono.just("ok")).block()).isEqualTo("ok");
+    }
+
+    private static InventoryCallGuard newGuard(int maxConcurrent) {
+        return new InventoryCallGuard(10, 2, 50, 60_000, 1, maxConcurrent, 10, 1, 10, 0.5, 10.0);
+    }
+}
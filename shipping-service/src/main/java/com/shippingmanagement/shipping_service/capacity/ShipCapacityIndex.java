@@ -0,0 +1,138 @@
+package com.shippingmanagement.shipping_service.capacity;
+
+import com.shippingmanagement.shipping_service.model.ShipTracking;
+import com.shippingmanagement.shipping_service.repository.ShipRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Component
+@ConditionalOnProperty(name = "app.shipping.capacity-index.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class ShipCapacityIndex {
+
+    private final ShipRepository shipRepository;
+
+    private final ConcurrentHashMap<String, ConcurrentSkipListSet<ShipSlot>> slotsByDestination = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Integer, AtomicReference<ShipSlot>> slotsByShipId = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void rebuild() {
+        List<ShipTracking> ships = shipRepository.findAll();
+        ships.forEach(this::merge);
+        log.info("Loaded {} ships for {} destinations into the capacity index", ships.size(), slotsByDestination.size());
+    }
+
+    @Scheduled(fixedDelayString = "${app.shipping.capacity-index.refresh-interval-ms}")
+    public void refresh() {
+        try {
+            shipRepository.findAll().forEach(this::merge);
+        } catch (Exception e) {
+            log.warn("Could not refresh ship capacity index: {}", e.getMessage());
+        }
+    }
+
+    public Optional<ShipSlot> reserve(String destinationCountry) {
+        if (destinationCountry == null) {
+            return Optional.empty();
+        }
+        ConcurrentSkipListSet<ShipSlot> slots = slotsByDestination.get(destinationCountry);
+        if (slots == null) {
+            return Optional.empty();
+        }
+
+        while (true) {
+            Iterator<ShipSlot> iterator = slots.iterator();
+            if (!iterator.hasNext()) {
+                return Optional.empty();
+            }
+            ShipSlot leastLoaded = iterator.next();
+            AtomicReference<ShipSlot> current = slotsByShipId.get(leastLoaded.shipId());
+            if (current == null || current.get() != leastLoaded) {
+                slots.remove(leastLoaded);
+                continue;
+            }
+
+            ShipSlot reserved = leastLoaded.withTotalOrders(leastLoaded.totalOrders() + 1);
+            if (current.compareAndSet(leastLoaded, reserved)) {
+                if (reserved.hasCapacity()) {
+                    slots.add(reserved);
+                }
+                slots.remove(leastLoaded);
+                return Optional.of(reserved);
+            }
+        }
+    }
+
+    public void release(ShipSlot reserved) {
+        ConcurrentSkipListSet<ShipSlot> slots = slotsByDestination.get(reserved.destinationCountry());
+        AtomicReference<ShipSlot> current = slotsByShipId.get(reserved.shipId());
+        if (current == null) {
+            return;
+        }
+
+        while (true) {
+            ShipSlot known = current.get();
+            ShipSlot released = known.withTotalOrders(Math.max(known.totalOrders() - 1, 0));
+            if (released.equals(known)) {
+                return;
+            }
+            if (current.compareAndSet(known, released)) {
+                if (released.hasCapacity()) {
+                    slots.add(released);
+                }
+                slots.remove(known);
+                return;
+            }
+        }
+    }
+
+    public void resync(ShipTracking ship) {
+        merge(ship);
+    }
+
+    public void evict(ShipSlot slot) {
+        AtomicReference<ShipSlot> current = slotsByShipId.remove(slot.shipId());
+        ConcurrentSkipListSet<ShipSlot> slots = slotsByDestination.get(slot.destinationCountry());
+        if (current != null && slots != null) {
+            slots.remove(current.get());
+        }
+    }
+
+    private void merge(ShipTracking ship) {
+        ShipSlot persisted = ShipSlot.of(ship);
+        ConcurrentSkipListSet<ShipSlot> slots = slotsByDestination.computeIfAbsent(
+                persisted.destinationCountry(), destination -> new ConcurrentSkipListSet<>(ShipSlot.BY_LOAD));
+        AtomicReference<ShipSlot> current = slotsByShipId.computeIfAbsent(persisted.shipId(), shipId -> new AtomicReference<>());
+
+        while (true) {
+            ShipSlot known = current.get();
+            ShipSlot merged = known == null
+                    ? persisted
+                    : persisted.withTotalOrders(Math.max(known.totalOrders(), persisted.totalOrders()));
+            if (merged.equals(known)) {
+                return;
+            }
+            if (current.compareAndSet(known, merged)) {
+                if (merged.hasCapacity()) {
+                    slots.add(merged);
+                }
+                if (known != null) {
+                    slots.remove(known);
+                }
+                return;
+            }
+        }
+    }
+}
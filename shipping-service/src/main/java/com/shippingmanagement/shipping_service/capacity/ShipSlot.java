@@ -0,0 +1,26 @@
+package com.shippingmanagement.shipping_service.capacity;
+
+import com.shippingmanagement.shipping_service.model.ShipTracking;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+public record ShipSlot(Integer shipId, String destinationCountry, int totalOrders, Integer maxCapacity,
+                       LocalDateTime departureDate) {
+
+    static final Comparator<ShipSlot> BY_LOAD =
+            Comparator.comparingInt(ShipSlot::totalOrders).thenComparing(ShipSlot::shipId);
+
+    static ShipSlot of(ShipTracking ship) {
+        return new ShipSlot(ship.getShipId(), ship.getDestinationCountry(),
+                ship.getTotalOrders() != null ? ship.getTotalOrders() : 0, ship.getMaxCapacity(), ship.getDepartureDate());
+    }
+
+    boolean hasCapacity() {
+        return maxCapacity == null || totalOrders < maxCapacity;
+    }
+
+    ShipSlot withTotalOrders(int totalOrders) {
+        return new ShipSlot(shipId, destinationCountry, totalOrders, maxCapacity, departureDate);
+    }
+}
@@ -1,6 +1,10 @@
 package com.shippingmanagement.shipping_service.config;
 
+import com.shippingmanagement.order_service.avro.OrderSubmitted;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.shippingmanagement.shipping_service.avro.ShipmentCreated;
+import com.shippingmanagement.shipping_service.dto.DestinationShipLoads;
+import com.shippingmanagement.shipping_service.dto.OrderSubmittedEvent;
 import io.confluent.kafka.serializers.AbstractKafkaSchemaSerDeConfig;
 import io.confluent.kafka.streams.serdes.avro.SpecificAvroSerde;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
@@ -13,6 +17,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafkaStreams;
 import org.springframework.kafka.annotation.KafkaStreamsDefaultConfiguration;
 import org.springframework.kafka.config.KafkaStreamsConfiguration;
+import org.springframework.kafka.support.serializer.JsonSerde;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -30,6 +35,9 @@ public class KafkaStreamConfig {
     @Value("${spring.application.name}")
     private String applicationName;
 
+    @Value("${app.kafka.streams.num-stream-threads}")
+    private int numStreamThreads;
+
     @Bean(name = KafkaStreamsDefaultConfiguration.DEFAULT_STREAMS_CONFIG_BEAN_NAME)
     public KafkaStreamsConfiguration kStreamsConfig() {
         Map<String, Object> props = new HashMap<>();
@@ -40,6 +48,7 @@ public class KafkaStreamConfig {
         props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
         props.put(StreamsConfig.CACHE_MAX_BYTES_BUFFERING_CONFIG, 0);
         props.put(StreamsConfig.COMMIT_INTERVAL_MS_CONFIG, 1000);
+        props.put(StreamsConfig.NUM_STREAM_THREADS_CONFIG, numStreamThreads);
 
 
         props.put(StreamsConfig.PROCESSING_GUARANTEE_CONFIG, StreamsConfig.EXACTLY_ONCE_V2);
@@ -59,4 +68,26 @@ public class KafkaStreamConfig {
         serde.configure(serdeConfig, false);
         return serde;
     }
+
+    @Bean
+    public SpecificAvroSerde<OrderSubmitted> orderSubmittedSerde() {
+        final SpecificAvroSerde<OrderSubmitted> serde = new SpecificAvroSerde<>();
+
+        Map<String, String> serdeConfig = new HashMap<>();
+        serdeConfig.put(AbstractKafkaSchemaSerDeConfig.SCHEMA_REGISTRY_URL_CONFIG, schemaRegistryUrl);
+        serdeConfig.put("specific.avro.reader", "true");
+
+        serde.configure(serdeConfig, false);
+        return serde;
+    }
+
+    @Bean
+    public JsonSerde<OrderSubmittedEvent> orderSubmittedEventSerde(ObjectMapper objectMapper) {
+        return new JsonSerde<>(OrderSubmittedEvent.class, objectMapper).noTypeInfo().ignoreTypeHeaders();
+    }
+
+    @Bean
+    public JsonSerde<DestinationShipLoads> destinationShipLoadsSerde(ObjectMapper objectMapper) {
+        return new JsonSerde<>(DestinationShipLoads.class, objectMapper).noTypeInfo().ignoreTypeHeaders();
+    }
 }
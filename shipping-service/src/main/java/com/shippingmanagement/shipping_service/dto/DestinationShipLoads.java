@@ -0,0 +1,75 @@
+package com.shippingmanagement.shipping_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DestinationShipLoads {
+
+    private static final Comparator<ShipLoad> BY_LOAD =
+            Comparator.comparing(ShipLoad::getTotalOrders).thenComparing(ShipLoad::getShipId);
+
+    private List<ShipLoad> ships = new ArrayList<>();
+
+    public static DestinationShipLoads of(List<ShipLoad> ships) {
+        List<ShipLoad> ordered = new ArrayList<>(ships);
+        ordered.sort(BY_LOAD);
+        return new DestinationShipLoads(ordered);
+    }
+
+    public Optional<ShipLoad> assignNext() {
+        int next = 0;
+        while (next < ships.size() && !ships.get(next).hasCapacity()) {
+            next++;
+        }
+        if (next == ships.size()) {
+            return Optional.empty();
+        }
+        ShipLoad ship = ships.remove(next);
+        ship.setTotalOrders(ship.getTotalOrders() + 1);
+        int index = Collections.binarySearch(ships, ship, BY_LOAD);
+        ships.add(index >= 0 ? index : -index - 1, ship);
+        return Optional.of(ship);
+    }
+
+    public void remove(Integer shipId) {
+        ships.removeIf(ship -> ship.getShipId().equals(shipId));
+    }
+
+    public void release(Integer shipId) {
+        ships.stream()
+                .filter(ship -> ship.getShipId().equals(shipId))
+                .findFirst()
+                .ifPresent(ship -> {
+                    ship.setTotalOrders(Math.max(0, ship.getTotalOrders() - 1));
+                    ships.sort(BY_LOAD);
+                });
+    }
+
+    public void reconcile(List<ShipLoad> persisted) {
+        Map<Integer, ShipLoad> current = ships.stream()
+                .collect(Collectors.toMap(ShipLoad::getShipId, Function.identity()));
+        List<ShipLoad> merged = new ArrayList<>(persisted.size());
+        for (ShipLoad ship : persisted) {
+            ShipLoad known = current.get(ship.getShipId());
+            int totalOrders = known != null
+                    ? Math.max(known.getTotalOrders(), ship.getTotalOrders())
+                    : ship.getTotalOrders();
+            merged.add(new ShipLoad(ship.getShipId(), totalOrders, ship.getMaxCapacity(), ship.getDepartureDate()));
+        }
+        merged.sort(BY_LOAD);
+        ships = merged;
+    }
+}
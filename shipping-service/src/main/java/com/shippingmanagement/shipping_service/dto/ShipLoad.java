@@ -0,0 +1,23 @@
+package com.shippingmanagement.shipping_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ShipLoad {
+    private Integer shipId;
+    private Integer totalOrders;
+    private Integer maxCapacity;
+    private LocalDateTime departureDate;
+
+    public boolean hasCapacity() {
+        return maxCapacity == null || totalOrders < maxCapacity;
+    }
+}
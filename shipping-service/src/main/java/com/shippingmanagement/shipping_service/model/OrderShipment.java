@@ -9,7 +9,8 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "order_shipment")
+@Table(name = "order_shipment",
+        uniqueConstraints = @UniqueConstraint(name = "uk_order_shipment_order_id", columnNames = "order_id"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
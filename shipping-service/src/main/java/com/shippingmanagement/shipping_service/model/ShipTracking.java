@@ -11,7 +11,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "ship_tracking")
+@Table(name = "ship_tracking",
+        indexes = @Index(name = "idx_ship_tracking_destination_load", columnList = "destination_country, total_orders"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -29,6 +30,9 @@ public class ShipTracking {
     @Column(name = "total_orders")
     private Integer totalOrders;
 
+    @Column(name = "max_capacity")
+    private Integer maxCapacity;
+
     @Column(name = "departure_date")
     private LocalDateTime departureDate;
 
@@ -4,9 +4,13 @@ import com.shippingmanagement.shipping_service.model.OrderShipment;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface OrderShipmentRepository extends JpaRepository<OrderShipment, Integer> {
     Optional<OrderShipment> findByOrderId(Integer orderId);
+
+    List<OrderShipment> findByOrderIdIn(Collection<Integer> orderIds);
 }
@@ -2,11 +2,24 @@ package com.shippingmanagement.shipping_service.repository;
 
 import com.shippingmanagement.shipping_service.model.ShipTracking;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
+import java.util.List;
 
 @Repository
 public interface ShipRepository extends JpaRepository<ShipTracking, Integer> {
-    Optional<ShipTracking> findFirstByDestinationCountryOrderByTotalOrdersAsc(String destinationCountry);
-}
\ No newline at end of file
+    @Query("SELECT s FROM ShipTracking s WHERE s.destinationCountry = :destinationCountry"
+            + " AND (s.maxCapacity IS NULL OR s.totalOrders < s.maxCapacity)"
+            + " ORDER BY s.totalOrders ASC, s.shipId ASC")
+    List<ShipTracking> findWithCapacityByDestinationCountry(@Param("destinationCountry") String destinationCountry);
+
+    List<ShipTracking> findByDestinationCountry(String destinationCountry);
+
+    @Modifying
+    @Query("UPDATE ShipTracking s SET s.totalOrders = s.totalOrders + 1 WHERE s.shipId = :shipId"
+            + " AND (s.maxCapacity IS NULL OR s.totalOrders < s.maxCapacity)")
+    int incrementTotalOrdersWithinCapacity(@Param("shipId") Integer shipId);
+}
@@ -0,0 +1,71 @@
+package com.shippingmanagement.shipping_service.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class ShipmentBatchRepository {
+
+    private static final String INSERT_ORDER_SHIPMENT_SQL =
+            "INSERT INTO order_shipment (order_id, ship_id, assigned_date) VALUES (?, ?, ?)";
+
+    private static final String ADD_TOTAL_ORDERS_WITHIN_CAPACITY_SQL =
+            "UPDATE ship_tracking SET total_orders = total_orders + ?"
+                    + " WHERE ship_id = ? AND (max_capacity IS NULL OR total_orders + ? <= max_capacity)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public int insertOrderShipment(Integer orderId, Integer shipId, LocalDateTime assignedDate) {
+        return jdbcTemplate.update(INSERT_ORDER_SHIPMENT_SQL, orderId, shipId, Timestamp.valueOf(assignedDate));
+    }
+
+    public int[] insertOrderShipments(Map<Integer, Integer> shipIdByOrderId, LocalDateTime assignedDate) {
+        List<Map.Entry<Integer, Integer>> entries = new ArrayList<>(shipIdByOrderId.entrySet());
+        Timestamp assignedAt = Timestamp.valueOf(assignedDate);
+
+        return jdbcTemplate.batchUpdate(INSERT_ORDER_SHIPMENT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Map.Entry<Integer, Integer> entry = entries.get(i);
+                ps.setInt(1, entry.getKey());
+                ps.setInt(2, entry.getValue());
+                ps.setTimestamp(3, assignedAt);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return entries.size();
+            }
+        });
+    }
+
+    public int[] addTotalOrdersWithinCapacity(Map<Integer, Integer> addedOrdersByShipId) {
+        List<Map.Entry<Integer, Integer>> entries = new ArrayList<>(addedOrdersByShipId.entrySet());
+
+        return jdbcTemplate.batchUpdate(ADD_TOTAL_ORDERS_WITHIN_CAPACITY_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Map.Entry<Integer, Integer> entry = entries.get(i);
+                ps.setInt(1, entry.getValue());
+                ps.setInt(2, entry.getKey());
+                ps.setInt(3, entry.getValue());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return entries.size();
+            }
+        });
+    }
+}
@@ -1,16 +1,32 @@
 package com.shippingmanagement.shipping_service.service;
 
+import com.shippingmanagement.shipping_service.capacity.ShipCapacityIndex;
+import com.shippingmanagement.shipping_service.capacity.ShipSlot;
+import com.shippingmanagement.shipping_service.dto.DestinationShipLoads;
+import com.shippingmanagement.shipping_service.dto.ShipLoad;
 import com.shippingmanagement.shipping_service.model.OrderShipment;
 import com.shippingmanagement.shipping_service.model.ShipTracking;
 import com.shippingmanagement.shipping_service.repository.OrderShipmentRepository;
 import com.shippingmanagement.shipping_service.repository.ShipRepository;
+import com.shippingmanagement.shipping_service.repository.ShipmentBatchRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -19,27 +35,30 @@ public class ShipmentService {
 
     private final ShipRepository shipRepository;
     private final OrderShipmentRepository orderShipmentRepository;
+    private final ShipmentBatchRepository shipmentBatchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Optional<ShipCapacityIndex> shipCapacityIndex;
 
-    public Optional<ShipTracking> findShipForDestination(String destinationCountry) {
-        Optional<ShipTracking> existingShip = shipRepository
-                .findFirstByDestinationCountryOrderByTotalOrdersAsc(destinationCountry);
+    public List<ShipTracking> findShipsForDestination(String destinationCountry) {
+        List<ShipTracking> ships = shipRepository.findWithCapacityByDestinationCountry(destinationCountry);
 
-        if (existingShip.isPresent()) {
-            log.info("Found existing ship {} for destination {}",
-                    existingShip.get().getShipId(), destinationCountry);
-        } else {
+        if (ships.isEmpty()) {
             log.warn("No ship available for destination {}", destinationCountry);
+        } else {
+            log.info("Found {} ships with capacity for destination {}", ships.size(), destinationCountry);
         }
 
-        return existingShip;
+        return ships;
     }
 
     @Transactional
-    public ShipTracking updateShipOrderCount(ShipTracking ship) {
-        ship.setTotalOrders(ship.getTotalOrders() + 1);
-        ShipTracking updatedShip = shipRepository.save(ship);
-        log.info("Updated ship {} total orders to {}", ship.getShipId(), ship.getTotalOrders());
-        return updatedShip;
+    public boolean reserveShipCapacity(ShipTracking ship) {
+        if (shipRepository.incrementTotalOrdersWithinCapacity(ship.getShipId()) == 0) {
+            log.info("Ship {} reached its capacity, trying the next one", ship.getShipId());
+            return false;
+        }
+        log.info("Reserved capacity on ship {}", ship.getShipId());
+        return true;
     }
     @Transactional
     public void markOrderForManualProcessing(Integer orderId) {
@@ -49,37 +68,174 @@ public class ShipmentService {
 
     @Transactional
     public void createOrderShipment(Integer orderId, ShipTracking ship) {
+        shipmentBatchRepository.insertOrderShipment(orderId, ship.getShipId(), LocalDateTime.now());
+        log.info("Created order_shipment record for order {} and ship {}", orderId, ship.getShipId());
+    }
+
+
+    public Optional<ShipTracking> assignOrderToShip(Integer orderId, String destinationCountry) {
+        try {
+            if (shipCapacityIndex.isPresent()) {
+                return assignOrderFromIndex(shipCapacityIndex.get(), orderId, destinationCountry);
+            }
+            return transactionTemplate.execute(status -> assignOrderFromDatabase(orderId, destinationCountry));
+        } catch (DuplicateKeyException e) {
+            log.info("Order {} was assigned concurrently, returning the recorded ship", orderId);
+            return transactionTemplate.execute(status -> findAssignedShip(orderId));
+        }
+    }
+
+    private Optional<ShipTracking> findAssignedShip(Integer orderId) {
+        return orderShipmentRepository.findByOrderId(orderId)
+                .map(assignment -> copyOf(assignment.getShipTracking()));
+    }
+
+    private ShipTracking copyOf(ShipTracking ship) {
+        return ShipTracking.builder()
+                .shipId(ship.getShipId())
+                .destinationCountry(ship.getDestinationCountry())
+                .totalOrders(ship.getTotalOrders())
+                .maxCapacity(ship.getMaxCapacity())
+                .departureDate(ship.getDepartureDate())
+                .orderShipments(new ArrayList<>())
+                .build();
+    }
+
+    private Optional<ShipTracking> assignOrderFromIndex(ShipCapacityIndex index, Integer orderId, String destinationCountry) {
+        while (true) {
+            Optional<ShipSlot> slot = index.reserve(destinationCountry);
+            if (slot.isEmpty()) {
+                log.warn("No ship available for destination {}", destinationCountry);
+                return Optional.empty();
+            }
+
+            ShipSlot reserved = slot.get();
+            boolean recorded;
+            try {
+                recorded = Boolean.TRUE.equals(transactionTemplate.execute(status -> reserveAndRecord(orderId, reserved.shipId())));
+            } catch (RuntimeException e) {
+                index.release(reserved);
+                throw e;
+            }
+
+            if (recorded) {
+                log.info("Assigned order {} to ship {} from capacity index", orderId, reserved.shipId());
+                return Optional.of(ShipTracking.builder()
+                        .shipId(reserved.shipId())
+                        .destinationCountry(reserved.destinationCountry())
+                        .totalOrders(reserved.totalOrders())
+                        .maxCapacity(reserved.maxCapacity())
+                        .departureDate(reserved.departureDate())
+                        .orderShipments(new ArrayList<>())
+                        .build());
+            }
+            index.release(reserved);
+            shipRepository.findById(reserved.shipId())
+                    .ifPresentOrElse(index::resync, () -> index.evict(reserved));
+        }
+    }
+
+    private boolean reserveAndRecord(Integer orderId, Integer shipId) {
+        if (shipRepository.incrementTotalOrdersWithinCapacity(shipId) == 0) {
+            log.info("Ship {} is full in the database, trying the next one", shipId);
+            return false;
+        }
+        shipmentBatchRepository.insertOrderShipment(orderId, shipId, LocalDateTime.now());
+        return true;
+    }
+
+    private Optional<ShipTracking> assignOrderFromDatabase(Integer orderId, String destinationCountry) {
         Optional<OrderShipment> existingAssignment = orderShipmentRepository.findByOrderId(orderId);
         if (existingAssignment.isPresent()) {
             log.info("Order {} is already assigned to ship {}",
                     orderId, existingAssignment.get().getShipTracking().getShipId());
-            return;
+            return Optional.of(copyOf(existingAssignment.get().getShipTracking()));
         }
 
+        for (ShipTracking ship : findShipsForDestination(destinationCountry)) {
+            if (reserveShipCapacity(ship)) {
+                createOrderShipment(orderId, ship);
+                return Optional.of(ShipTracking.builder()
+                        .shipId(ship.getShipId())
+                        .destinationCountry(ship.getDestinationCountry())
+                        .totalOrders(ship.getTotalOrders() + 1)
+                        .maxCapacity(ship.getMaxCapacity())
+                        .departureDate(ship.getDepartureDate())
+                        .orderShipments(new ArrayList<>())
+                        .build());
+            }
+        }
 
-        OrderShipment orderShipment = OrderShipment.builder()
-                .orderId(orderId)
-                .shipTracking(ship)
-                .assignedDate(LocalDateTime.now())
-                .build();
-
-        orderShipmentRepository.save(orderShipment);
-        log.info("Created order_shipment record for order {} and ship {}", orderId, ship.getShipId());
+        log.warn("All ships for destination {} are at capacity", destinationCountry);
+        return Optional.empty();
     }
 
+    @Transactional(readOnly = true)
+    public List<ShipLoad> findShipLoads(String destinationCountry) {
+        return shipRepository.findByDestinationCountry(destinationCountry).stream()
+                .map(this::toShipLoad)
+                .collect(Collectors.toList());
+    }
 
-    @Transactional
-    public Optional<ShipTracking> assignOrderToShip(Integer orderId, String destinationCountry) {
-        Optional<ShipTracking> shipOptional = findShipForDestination(destinationCountry);
+    private ShipLoad toShipLoad(ShipTracking ship) {
+        return ShipLoad.builder()
+                .shipId(ship.getShipId())
+                .totalOrders(ship.getTotalOrders())
+                .maxCapacity(ship.getMaxCapacity())
+                .departureDate(ship.getDepartureDate())
+                .build();
+    }
 
-        if (shipOptional.isEmpty()) {
-            return Optional.empty();
+    public Optional<Integer> recordAssignment(Integer orderId, Integer shipId) {
+        try {
+            if (!Boolean.TRUE.equals(transactionTemplate.execute(status -> reserveAndRecord(orderId, shipId)))) {
+                return Optional.empty();
+            }
+            log.info("Recorded assignment of order {} to ship {}", orderId, shipId);
+            return Optional.of(shipId);
+        } catch (DuplicateKeyException e) {
+            log.info("Assignment of order {} is already recorded", orderId);
+            return transactionTemplate.execute(status -> findAssignedShip(orderId)).map(ShipTracking::getShipId);
         }
+    }
 
-        ShipTracking ship = shipOptional.get();
+    @Transactional
+    public Map<Integer, ShipLoad> assignOrdersToShips(String destinationCountry, List<Integer> orderIds) {
+        DestinationShipLoads loads = DestinationShipLoads.of(findShipLoads(destinationCountry));
+        Map<Integer, ShipLoad> shipsById = loads.getShips().stream()
+                .collect(Collectors.toMap(ShipLoad::getShipId, Function.identity()));
+
+        Map<Integer, ShipLoad> assignments = new HashMap<>();
+        for (OrderShipment existing : orderShipmentRepository.findByOrderIdIn(orderIds)) {
+            ShipTracking ship = existing.getShipTracking();
+            assignments.put(existing.getOrderId(), shipsById.getOrDefault(ship.getShipId(), toShipLoad(ship)));
+        }
 
-        createOrderShipment(orderId, ship);
+        Map<Integer, Integer> shipIdByOrderId = new LinkedHashMap<>();
+        Map<Integer, Integer> addedOrdersByShipId = new HashMap<>();
+        for (Integer orderId : orderIds) {
+            if (assignments.containsKey(orderId)) {
+                continue;
+            }
+            Optional<ShipLoad> ship = loads.assignNext();
+            if (ship.isEmpty()) {
+                break;
+            }
+            assignments.put(orderId, ship.get());
+            shipIdByOrderId.put(orderId, ship.get().getShipId());
+            addedOrdersByShipId.merge(ship.get().getShipId(), 1, Integer::sum);
+        }
 
-        return Optional.of(updateShipOrderCount(ship));
+        if (!shipIdByOrderId.isEmpty()) {
+            shipmentBatchRepository.insertOrderShipments(shipIdByOrderId, LocalDateTime.now());
+            int[] updated = shipmentBatchRepository.addTotalOrdersWithinCapacity(addedOrdersByShipId);
+            if (Arrays.stream(updated).anyMatch(count -> count == 0)) {
+                throw new ConcurrencyFailureException(
+                        "Ship capacity for destination " + destinationCountry + " changed during batch assignment");
+            }
+        }
+        log.info("Assigned {} orders for destination {} across {} ships",
+                shipIdByOrderId.size(), destinationCountry, addedOrdersByShipId.size());
+        return assignments;
     }
-}
\ No newline at end of file
+}
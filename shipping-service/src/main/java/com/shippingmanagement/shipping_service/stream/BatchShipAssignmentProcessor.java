@@ -0,0 +1,129 @@
+package com.shippingmanagement.shipping_service.stream;
+
+import com.shippingmanagement.shipping_service.avro.ShipmentCreated;
+import com.shippingmanagement.shipping_service.dto.OrderSubmittedEvent;
+import com.shippingmanagement.shipping_service.dto.ShipLoad;
+import com.shippingmanagement.shipping_service.service.ShipmentService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.streams.processor.PunctuationType;
+import org.apache.kafka.streams.processor.api.Processor;
+import org.apache.kafka.streams.processor.api.ProcessorContext;
+import org.apache.kafka.streams.processor.api.Record;
+import org.apache.kafka.streams.state.KeyValueIterator;
+import org.apache.kafka.streams.state.KeyValueStore;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+@Slf4j
+public class BatchShipAssignmentProcessor implements Processor<String, OrderSubmittedEvent, String, ShipmentCreated> {
+
+    private final String storeName;
+    private final ShipmentService shipmentService;
+    private final Duration window;
+    private final int maxBatchSize;
+    private final int maxAttempts;
+    private final Map<String, Integer> failedAttempts = new HashMap<>();
+    private final Map<String, Long> retryAtByDestination = new HashMap<>();
+
+    private ProcessorContext<String, ShipmentCreated> context;
+    private KeyValueStore<String, OrderSubmittedEvent> pendingOrders;
+    private long addedSinceFlush;
+
+    @Override
+    public void init(ProcessorContext<String, ShipmentCreated> context) {
+        this.context = context;
+        this.pendingOrders = context.getStateStore(storeName);
+        context.schedule(window, PunctuationType.WALL_CLOCK_TIME, timestamp -> flush());
+    }
+
+    @Override
+    public void process(Record<String, OrderSubmittedEvent> record) {
+        pendingOrders.put(String.valueOf(record.value().getOrderId()), record.value());
+        if (++addedSinceFlush >= maxBatchSize) {
+            flush();
+        }
+    }
+
+    private void flush() {
+        addedSinceFlush = 0;
+        Map<String, List<OrderSubmittedEvent>> ordersByDestination = new HashMap<>();
+        List<OrderSubmittedEvent> withoutDestination = new ArrayList<>();
+        try (KeyValueIterator<String, OrderSubmittedEvent> iterator = pendingOrders.all()) {
+            iterator.forEachRemaining(entry -> {
+                OrderSubmittedEvent orderEvent = entry.value;
+                if (orderEvent.getDestinationCountry() == null) {
+                    withoutDestination.add(orderEvent);
+                } else {
+                    ordersByDestination.computeIfAbsent(orderEvent.getDestinationCountry(), key -> new ArrayList<>())
+                            .add(orderEvent);
+                }
+            });
+        }
+
+        withoutDestination.forEach(orderEvent -> complete(orderEvent, null));
+        ordersByDestination.forEach(this::assignDestination);
+    }
+
+    private void assignDestination(String destination, List<OrderSubmittedEvent> orders) {
+        long now = context.currentSystemTimeMs();
+        if (retryAtByDestination.getOrDefault(destination, 0L) > now) {
+            return;
+        }
+
+        Map<Integer, ShipLoad> assignments;
+        try {
+            assignments = shipmentService.assignOrdersToShips(destination, orders.stream()
+                    .map(OrderSubmittedEvent::getOrderId)
+                    .collect(Collectors.toList()));
+        } catch (Exception e) {
+            log.error("Batch assignment of {} orders for destination {} failed", orders.size(), destination, e);
+            int attempts = recordFailedAttempt(orders);
+            retryAtByDestination.put(destination, now + (window.toMillis() << Math.min(attempts, 6)));
+            return;
+        }
+
+        retryAtByDestination.remove(destination);
+
+        for (OrderSubmittedEvent orderEvent : orders) {
+            complete(orderEvent, assignments.get(orderEvent.getOrderId()));
+        }
+    }
+
+    private int recordFailedAttempt(List<OrderSubmittedEvent> orders) {
+        int mostAttempts = 0;
+        for (OrderSubmittedEvent orderEvent : orders) {
+            int attempts = failedAttempts.merge(String.valueOf(orderEvent.getOrderId()), 1, Integer::sum);
+            if (attempts >= maxAttempts) {
+                log.warn("Order {} failed batch assignment {} times, routing it to unassigned orders",
+                        orderEvent.getOrderId(), attempts);
+                complete(orderEvent, null);
+            } else {
+                mostAttempts = Math.max(mostAttempts, attempts);
+            }
+        }
+        return mostAttempts;
+    }
+
+    private void complete(OrderSubmittedEvent orderEvent, ShipLoad ship) {
+        ShipmentCreated shipment;
+        if (ship != null) {
+            shipment = ShipmentEvents.assigned(orderEvent, ship.getShipId(), ship.getDepartureDate());
+        } else {
+            log.warn("No ship available for destination {}. Order {} cannot be processed.",
+                    orderEvent.getDestinationCountry(), orderEvent.getOrderId());
+            shipment = ShipmentEvents.unassigned(orderEvent);
+        }
+
+        String orderKey = String.valueOf(orderEvent.getOrderId());
+        context.forward(new Record<>(orderKey, shipment, context.currentSystemTimeMs()));
+        pendingOrders.delete(orderKey);
+        failedAttempts.remove(orderKey);
+    }
+}
@@ -1,7 +1,9 @@
 package com.shippingmanagement.shipping_service.stream;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shippingmanagement.order_service.avro.OrderSubmitted;
 import com.shippingmanagement.shipping_service.avro.ShipmentCreated;
+import com.shippingmanagement.shipping_service.dto.DestinationShipLoads;
 import com.shippingmanagement.shipping_service.dto.OrderSubmittedEvent;
 import com.shippingmanagement.shipping_service.model.ShipTracking;
 import com.shippingmanagement.shipping_service.service.ShipmentService;
@@ -10,31 +12,44 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.common.serialization.Serde;
 import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.streams.KeyValue;
 import org.apache.kafka.streams.StreamsBuilder;
 import org.apache.kafka.streams.kstream.Branched;
 import org.apache.kafka.streams.kstream.Consumed;
 import org.apache.kafka.streams.kstream.KStream;
 import org.apache.kafka.streams.kstream.Produced;
+import org.apache.kafka.streams.kstream.Repartitioned;
+import org.apache.kafka.streams.state.Stores;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.support.serializer.JsonSerde;
 import org.apache.kafka.streams.kstream.BranchedKStream;
 
 
-import java.time.Instant;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.time.temporal.ChronoUnit;
 import java.util.Optional;
-import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Configuration
 @RequiredArgsConstructor
 @Slf4j
 public class OrderShipmentStream {
 
+    private static final byte AVRO_MAGIC_BYTE = 0x0;
+    private static final String STATE_STORE_MODE = "state-store";
+    private static final String BATCH_MODE = "batch";
+    private static final String SHIP_LOADS_STORE = "ship-loads-store";
+    private static final String PENDING_ASSIGNMENTS_STORE = "pending-assignments-store";
+
     private final ShipmentService shipmentService;
     private final ObjectMapper objectMapper;
     private final SpecificAvroSerde<ShipmentCreated> shipmentCreatedSerde;
+    private final SpecificAvroSerde<OrderSubmitted> orderSubmittedSerde;
+    private final JsonSerde<OrderSubmittedEvent> orderSubmittedEventSerde;
+    private final JsonSerde<DestinationShipLoads> destinationShipLoadsSerde;
 
     @Value("${app.kafka.topics.order-submitted}")
     private String orderSubmittedTopic;
@@ -45,65 +60,53 @@ public class OrderShipmentStream {
     @Value("${app.kafka.topics.unassigned-shipping-orders}")
     private String unassignedShippingOrdersTopic;
 
+    @Value("${app.shipping.assignment.mode}")
+    private String assignmentMode;
+
+    @Value("${app.shipping.assignment.store-refresh-interval-ms}")
+    private long storeRefreshIntervalMs;
+
+    @Value("${app.shipping.assignment.repartition-partitions}")
+    private int repartitionPartitions;
+
+    @Value("${app.shipping.assignment.batch.window-ms}")
+    private long batchWindowMs;
+
+    @Value("${app.shipping.assignment.batch.max-size}")
+    private int batchMaxSize;
+
+    @Value("${app.shipping.assignment.batch.max-attempts}")
+    private int batchMaxAttempts;
+
     @SuppressWarnings("unchecked")
     @Bean
     public KStream<String, ShipmentCreated> processOrderStream(StreamsBuilder streamsBuilder) {
 
-        KStream<String, String> orderJsonStream = streamsBuilder.stream(
+        KStream<String, byte[]> orderSubmittedStream = streamsBuilder.stream(
                 orderSubmittedTopic,
-                Consumed.with(Serdes.String(), Serdes.String())
+                Consumed.with(Serdes.String(), Serdes.ByteArray())
         );
 
-        KStream<String, OrderSubmittedEvent> orderStream = orderJsonStream
-                .mapValues(orderJson -> {
+        KStream<String, OrderSubmittedEvent> orderStream = orderSubmittedStream
+                .mapValues((key, payload) -> {
                     try {
-                        return objectMapper.readValue(orderJson, OrderSubmittedEvent.class);
+                        return readOrderSubmitted(payload);
                     } catch (Exception e) {
-                        log.error("Error deserializing order JSON: {}", orderJson, e);
+                        log.error("Error deserializing order submitted event with key {}", key, e);
                         return null;
                     }
                 })
                 .filter((key, value) -> value != null);
 
-        KStream<String, ShipmentCreated> shipmentStream = orderStream.mapValues(orderEvent -> {
-            log.info("Processing order {} for destination {}", orderEvent.getOrderId(), orderEvent.getDestinationCountry());
-
-            Optional<ShipTracking> shipOptional = shipmentService.assignOrderToShip(
-                    orderEvent.getOrderId(),
-                    orderEvent.getDestinationCountry()
-            );
-
-            if (shipOptional.isEmpty()) {
-                log.warn("No ship available for destination {}. Order {} cannot be processed.",
-                        orderEvent.getDestinationCountry(), orderEvent.getOrderId());
-
-                return createNoShipFoundEvent(orderEvent);
-            }
-
-            ShipTracking ship = shipOptional.get();
-
-            String shipmentId = UUID.randomUUID().toString();
-
-            Instant createdAtInstant = orderEvent.getCreatedAt() != null
-                    ? orderEvent.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant()
-                    : Instant.now();
-
-            Instant departureDateInstant = ship.getDepartureDate() != null
-                    ? ship.getDepartureDate().atZone(ZoneId.systemDefault()).toInstant()
-                    : Instant.now().plus(7, ChronoUnit.DAYS);
-
-            ShipmentCreated shipmentCreated = ShipmentCreated.newBuilder()
-                    .setShipmentId(shipmentId)
-                    .setOrderId(orderEvent.getOrderId())
-                    .setCustomerId(orderEvent.getCustomerId())
-                    .setDestinationCountry(orderEvent.getDestinationCountry())
-                    .setShipId(ship.getShipId())
-                    .setDepartureDate(departureDateInstant)
-                    .setCreatedAt(createdAtInstant)
-                    .build();
+        KStream<String, OrderSubmittedEvent> ordersByDestination = orderStream
+                .selectKey((key, orderEvent) -> orderEvent.getDestinationCountry())
+                .repartition(ordersByDestinationRepartition());
 
-            return shipmentCreated;
-        });
+        KStream<String, ShipmentCreated> shipmentStream = switch (assignmentMode) {
+            case STATE_STORE_MODE -> assignFromStateStore(streamsBuilder, ordersByDestination);
+            case BATCH_MODE -> assignInBatches(streamsBuilder, ordersByDestination);
+            default -> assignFromDatabase(ordersByDestination);
+        };
 
         KStream<String, ShipmentCreated>[] branches = shipmentStream.branch(
                 (key, shipment) -> shipment.getShipId() > 0,
@@ -123,15 +126,84 @@ public class OrderShipmentStream {
         return shipmentStream;
     }
 
-    private ShipmentCreated createNoShipFoundEvent(OrderSubmittedEvent orderEvent) {
-        return ShipmentCreated.newBuilder()
-                .setShipmentId(UUID.randomUUID().toString())
-                .setOrderId(orderEvent.getOrderId())
-                .setCustomerId(orderEvent.getCustomerId())
-                .setDestinationCountry(orderEvent.getDestinationCountry())
-                .setShipId(0)
-                .setDepartureDate(Instant.now())
-                .setCreatedAt(Instant.now())
+    private Repartitioned<String, OrderSubmittedEvent> ordersByDestinationRepartition() {
+        Repartitioned<String, OrderSubmittedEvent> repartitioned = Repartitioned
+                .with(Serdes.String(), orderSubmittedEventSerde)
+                .withName("orders-by-destination");
+        return repartitionPartitions > 0 ? repartitioned.withNumberOfPartitions(repartitionPartitions) : repartitioned;
+    }
+
+    private KStream<String, ShipmentCreated> assignFromDatabase(KStream<String, OrderSubmittedEvent> ordersByDestination) {
+        return ordersByDestination.map((destination, orderEvent) -> KeyValue.pair(
+                String.valueOf(orderEvent.getOrderId()),
+                assignOrderFromDatabase(orderEvent)));
+    }
+
+    private ShipmentCreated assignOrderFromDatabase(OrderSubmittedEvent orderEvent) {
+        log.info("Processing order {} for destination {}", orderEvent.getOrderId(), orderEvent.getDestinationCountry());
+
+        Optional<ShipTracking> shipOptional = shipmentService.assignOrderToShip(
+                orderEvent.getOrderId(),
+                orderEvent.getDestinationCountry()
+        );
+
+        if (shipOptional.isEmpty()) {
+            log.warn("No ship available for destination {}. Order {} cannot be processed.",
+                    orderEvent.getDestinationCountry(), orderEvent.getOrderId());
+
+            return ShipmentEvents.unassigned(orderEvent);
+        }
+
+        ShipTracking ship = shipOptional.get();
+        return ShipmentEvents.assigned(orderEvent, ship.getShipId(), ship.getDepartureDate());
+    }
+
+    private KStream<String, ShipmentCreated> assignFromStateStore(StreamsBuilder streamsBuilder,
+                                                                  KStream<String, OrderSubmittedEvent> ordersByDestination) {
+        streamsBuilder.addStateStore(Stores.keyValueStoreBuilder(
+                Stores.persistentKeyValueStore(SHIP_LOADS_STORE),
+                Serdes.String(),
+                destinationShipLoadsSerde
+        ));
+
+        Duration refreshInterval = Duration.ofMillis(storeRefreshIntervalMs);
+        return ordersByDestination.process(
+                () -> new ShipAssignmentProcessor(SHIP_LOADS_STORE, shipmentService, refreshInterval),
+                SHIP_LOADS_STORE);
+    }
+
+    private KStream<String, ShipmentCreated> assignInBatches(StreamsBuilder streamsBuilder,
+                                                             KStream<String, OrderSubmittedEvent> ordersByDestination) {
+        streamsBuilder.addStateStore(Stores.keyValueStoreBuilder(
+                Stores.inMemoryKeyValueStore(PENDING_ASSIGNMENTS_STORE),
+                Serdes.String(),
+                orderSubmittedEventSerde
+        ));
+
+        Duration window = Duration.ofMillis(batchWindowMs);
+        return ordersByDestination.process(
+                () -> new BatchShipAssignmentProcessor(PENDING_ASSIGNMENTS_STORE, shipmentService, window, batchMaxSize,
+                        batchMaxAttempts),
+                PENDING_ASSIGNMENTS_STORE);
+    }
+
+    private OrderSubmittedEvent readOrderSubmitted(byte[] payload) throws Exception {
+        if (payload.length == 0 || payload[0] != AVRO_MAGIC_BYTE) {
+            return objectMapper.readValue(payload, OrderSubmittedEvent.class);
+        }
+
+        OrderSubmitted orderSubmitted = orderSubmittedSerde.deserializer().deserialize(orderSubmittedTopic, payload);
+        return OrderSubmittedEvent.builder()
+                .orderId(orderSubmitted.getOrderId())
+                .customerId(orderSubmitted.getCustomerId().toString())
+                .destinationCountry(orderSubmitted.getDestinationCountry().toString())
+                .createdAt(LocalDateTime.ofInstant(orderSubmitted.getCreatedAt(), ZoneId.systemDefault()))
+                .orderItems(orderSubmitted.getOrderItems().stream()
+                        .map(item -> OrderSubmittedEvent.OrderItemDto.builder()
+                                .productId(item.getProductId())
+                                .quantity(item.getQuantity())
+                                .build())
+                        .collect(Collectors.toList()))
                 .build();
     }
-}
\ No newline at end of file
+}
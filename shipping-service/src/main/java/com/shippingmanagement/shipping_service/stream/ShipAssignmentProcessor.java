@@ -0,0 +1,117 @@
+package com.shippingmanagement.shipping_service.stream;
+
+import com.shippingmanagement.shipping_service.avro.ShipmentCreated;
+import com.shippingmanagement.shipping_service.dto.DestinationShipLoads;
+import com.shippingmanagement.shipping_service.dto.OrderSubmittedEvent;
+import com.shippingmanagement.shipping_service.dto.ShipLoad;
+import com.shippingmanagement.shipping_service.service.ShipmentService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.streams.processor.PunctuationType;
+import org.apache.kafka.streams.processor.api.Processor;
+import org.apache.kafka.streams.processor.api.ProcessorContext;
+import org.apache.kafka.streams.processor.api.Record;
+import org.apache.kafka.streams.state.KeyValueIterator;
+import org.apache.kafka.streams.state.KeyValueStore;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+@Slf4j
+public class ShipAssignmentProcessor implements Processor<String, OrderSubmittedEvent, String, ShipmentCreated> {
+
+    private final String storeName;
+    private final ShipmentService shipmentService;
+    private final Duration refreshInterval;
+
+    private ProcessorContext<String, ShipmentCreated> context;
+    private KeyValueStore<String, DestinationShipLoads> shipLoads;
+
+    @Override
+    public void init(ProcessorContext<String, ShipmentCreated> context) {
+        this.context = context;
+        this.shipLoads = context.getStateStore(storeName);
+        context.schedule(refreshInterval, PunctuationType.WALL_CLOCK_TIME, timestamp -> refreshFromDatabase());
+    }
+
+    @Override
+    public void process(Record<String, OrderSubmittedEvent> record) {
+        OrderSubmittedEvent orderEvent = record.value();
+        String destination = orderEvent.getDestinationCountry();
+        String orderKey = String.valueOf(orderEvent.getOrderId());
+
+        if (destination == null) {
+            log.warn("Order {} has no destination and cannot be assigned", orderEvent.getOrderId());
+            context.forward(record.withKey(orderKey).withValue(ShipmentEvents.unassigned(orderEvent)));
+            return;
+        }
+
+        DestinationShipLoads loads = shipLoads.get(destination);
+        if (loads == null) {
+            loads = DestinationShipLoads.of(shipmentService.findShipLoads(destination));
+            log.info("Loaded {} ships for destination {} into the ship load store", loads.getShips().size(), destination);
+        }
+
+        ShipmentCreated shipment = assignAndRecord(orderEvent, loads)
+                .orElseGet(() -> {
+                    log.warn("No ship available for destination {}. Order {} cannot be processed.",
+                            destination, orderEvent.getOrderId());
+                    return ShipmentEvents.unassigned(orderEvent);
+                });
+        shipLoads.put(destination, loads);
+        context.forward(record.withKey(orderKey).withValue(shipment));
+    }
+
+    private Optional<ShipmentCreated> assignAndRecord(OrderSubmittedEvent orderEvent, DestinationShipLoads loads) {
+        while (true) {
+            Optional<ShipLoad> ship = loads.assignNext();
+            if (ship.isEmpty()) {
+                return Optional.empty();
+            }
+
+            ShipLoad assigned = ship.get();
+            Optional<Integer> recorded = shipmentService.recordAssignment(orderEvent.getOrderId(), assigned.getShipId());
+            if (recorded.isEmpty()) {
+                log.info("Ship {} is full in the database, dropping it from the ship load store until the next refresh",
+                        assigned.getShipId());
+                loads.remove(assigned.getShipId());
+                continue;
+            }
+
+            if (recorded.get().equals(assigned.getShipId())) {
+                return Optional.of(ShipmentEvents.assigned(orderEvent, assigned.getShipId(), assigned.getDepartureDate()));
+            }
+            loads.release(assigned.getShipId());
+            return Optional.of(ShipmentEvents.assigned(orderEvent, recorded.get(), departureDateOf(loads, recorded.get())));
+        }
+    }
+
+    private LocalDateTime departureDateOf(DestinationShipLoads loads, Integer shipId) {
+        return loads.getShips().stream()
+                .filter(ship -> ship.getShipId().equals(shipId))
+                .map(ShipLoad::getDepartureDate)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private void refreshFromDatabase() {
+        List<String> destinations = new ArrayList<>();
+        try (KeyValueIterator<String, DestinationShipLoads> iterator = shipLoads.all()) {
+            iterator.forEachRemaining(entry -> destinations.add(entry.key));
+        }
+
+        for (String destination : destinations) {
+            try {
+                DestinationShipLoads loads = shipLoads.get(destination);
+                loads.reconcile(shipmentService.findShipLoads(destination));
+                shipLoads.put(destination, loads);
+            } catch (Exception e) {
+                log.warn("Could not refresh ship loads for destination {}: {}", destination, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.shippingmanagement.shipping_service.stream;
+
+import com.shippingmanagement.shipping_service.avro.ShipmentCreated;
+import com.shippingmanagement.shipping_service.dto.OrderSubmittedEvent;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+final class ShipmentEvents {
+
+    private ShipmentEvents() {
+    }
+
+    static ShipmentCreated assigned(OrderSubmittedEvent orderEvent, Integer shipId, LocalDateTime departureDate) {
+        Instant createdAtInstant = orderEvent.getCreatedAt() != null
+                ? orderEvent.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant()
+                : Instant.now();
+
+        Instant departureDateInstant = departureDate != null
+                ? departureDate.atZone(ZoneId.systemDefault()).toInstant()
+                : Instant.now().plus(7, ChronoUnit.DAYS);
+
+        return ShipmentCreated.newBuilder()
+                .setShipmentId(UUID.randomUUID().toString())
+                .setOrderId(orderEvent.getOrderId())
+                .setCustomerId(orderEvent.getCustomerId())
+                .setDestinationCountry(orderEvent.getDestinationCountry())
+                .setShipId(shipId)
+                .setDepartureDate(departureDateInstant)
+                .setCreatedAt(createdAtInstant)
+                .build();
+    }
+
+    static ShipmentCreated unassigned(OrderSubmittedEvent orderEvent) {
+        return ShipmentCreated.newBuilder()
+                .setShipmentId(UUID.randomUUID().toString())
+                .setOrderId(orderEvent.getOrderId())
+                .setCustomerId(orderEvent.getCustomerId())
+                .setDestinationCountry(orderEvent.getDestinationCountry())
+                .setShipId(0)
+                .setDepartureDate(Instant.now())
+                .setCreatedAt(Instant.now())
+                .build();
+    }
+}
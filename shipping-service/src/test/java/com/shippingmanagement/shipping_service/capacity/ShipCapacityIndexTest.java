@@ -0,0 +1,125 @@
+package com.shippingmanagement.shipping_service.capacity;
+
+import com.shippingmanagement.shipping_service.model.ShipTracking;
+import com.shippingmanagement.shipping_service.repository.ShipRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ShipCapacityIndexTest {
+
+    private static final String DESTINATION = "Germany";
+
+    @Test
+    void reservesTheLeastLoadedShipFirst() {
+        ShipCapacityIndex index = newIndex(ship(1, 3, 10), ship(2, 1, 10));
+
+        assertThat(index.reserve(DESTINATION)).get().extracting(ShipSlot::shipId).isEqualTo(2);
+        assertThat(index.reserve(DESTINATION)).get().extracting(ShipSlot::shipId).isEqualTo(2);
+        assertThat(index.reserve(DESTINATION)).get().extracting(ShipSlot::shipId).isEqualTo(1);
+        assertThat(index.reserve("France")).isEmpty();
+    }
+
+    @Test
+    void releasedSlotOfAFullShipCanBeReservedAgain() {
+        ShipCapacityIndex index = newIndex(ship(1, 0, 1));
+
+        ShipSlot reserved = index.reserve(DESTINATION).orElseThrow();
+        assertThat(index.reserve(DESTINATION)).isEmpty();
+
+        index.release(reserved);
+
+        assertThat(index.reserve(DESTINATION)).get().extracting(ShipSlot::totalOrders).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentReservationsNeverExceedCapacity() throws Exception {
+        ShipCapacityIndex index = newIndex(ship(1, 0, 50), ship(2, 0, 50), ship(3, 40, 50));
+        Map<Integer, AtomicInteger> reservedByShip = new ConcurrentHashMap<>();
+
+        runConcurrently(16, 20, () -> index.reserve(DESTINATION).ifPresent(slot ->
+                reservedByShip.computeIfAbsent(slot.shipId(), shipId -> new AtomicInteger()).incrementAndGet()));
+
+        assertThat(reservedByShip.get(1)).hasValue(50);
+        assertThat(reservedByShip.get(2)).hasValue(50);
+        assertThat(reservedByShip.get(3)).hasValue(10);
+        assertThat(index.reserve(DESTINATION)).isEmpty();
+    }
+
+    @Test
+    void concurrentReserveAndReleaseLeaveNoSlotBehind() throws Exception {
+        ShipCapacityIndex index = newIndex(ship(1, 0, 4), ship(2, 0, 4));
+        AtomicInteger reservations = new AtomicInteger();
+
+        runConcurrently(8, 500, () -> {
+            Optional<ShipSlot> slot = index.reserve(DESTINATION);
+            slot.ifPresent(reserved -> {
+                reservations.incrementAndGet();
+                index.release(reserved);
+            });
+        });
+
+        assertThat(reservations.get()).isPositive();
+        List<ShipSlot> drained = new ArrayList<>();
+        for (Optional<ShipSlot> next = index.reserve(DESTINATION); next.isPresent(); next = index.reserve(DESTINATION)) {
+            drained.add(next.get());
+        }
+        assertThat(drained).hasSize(8);
+        assertThat(drained.get(0).totalOrders()).isEqualTo(1);
+    }
+
+    private ShipCapacityIndex newIndex(ShipTracking... ships) {
+        ShipRepository shipRepository = mock(ShipRepository.class);
+        when(shipRepository.findAll()).thenReturn(List.of(ships));
+        ShipCapacityIndex index = new ShipCapacityIndex(shipRepository);
+        index.rebuild();
+        return index;
+    }
+
+    private ShipTracking ship(int shipId, int totalOrders, int maxCapacity) {
+        return ShipTracking.builder()
+                .shipId(shipId)
+                .destinationCountry(DESTINATION)
+                .totalOrders(totalOrders)
+                .maxCapacity(maxCapacity)
+                .departureDate(LocalDateTime.now().plusDays(7))
+                .orderShipments(new ArrayList<>())
+                .build();
+    }
+
+    private void runConcurrently(int threads, int attemptsPerThread, Runnable attempt) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < attemptsPerThread; i++) {
+                    attempt.run();
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,63 @@
+package com.shippingmanagement.shipping_service.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DestinationShipLoadsTest {
+
+    private static final LocalDateTime DEPARTURE = LocalDateTime.of(2026, 11, 1, 8, 0);
+
+    @Test
+    void assignNextPicksTheLeastLoadedShipWithCapacity() {
+        DestinationShipLoads loads = DestinationShipLoads.of(List.of(
+                load(1, 5, 10), load(2, 2, 2), load(3, 3, 10)));
+
+        assertThat(loads.assignNext()).get().extracting(ShipLoad::getShipId).isEqualTo(3);
+        assertThat(loads.assignNext()).get().extracting(ShipLoad::getShipId).isEqualTo(3);
+        assertThat(loads.assignNext()).get().extracting(ShipLoad::getShipId).isEqualTo(1);
+        assertThat(loads.getShips()).extracting(ShipLoad::getTotalOrders).containsExactly(2, 5, 6);
+    }
+
+    @Test
+    void assignNextIsEmptyWhenEveryShipIsFull() {
+        DestinationShipLoads loads = DestinationShipLoads.of(List.of(load(1, 1, 2), load(2, 2, 2)));
+
+        assertThat(loads.assignNext()).get().extracting(ShipLoad::getShipId).isEqualTo(1);
+        assertThat(loads.assignNext()).isEmpty();
+        assertThat(DestinationShipLoads.of(List.of()).assignNext()).isEmpty();
+    }
+
+    @Test
+    void reconcileKeepsTheHigherCountAndFollowsThePersistedShips() {
+        DestinationShipLoads loads = DestinationShipLoads.of(List.of(load(1, 4, 10), load(2, 1, 10)));
+
+        loads.reconcile(List.of(load(1, 2, 10), load(2, 6, 10), load(3, 0, 10)));
+
+        assertThat(loads.getShips()).extracting(ShipLoad::getShipId).containsExactly(3, 1, 2);
+        assertThat(loads.getShips()).extracting(ShipLoad::getTotalOrders).containsExactly(0, 4, 6);
+
+        loads.reconcile(List.of(load(2, 6, 10)));
+
+        assertThat(loads.getShips()).extracting(ShipLoad::getShipId).containsExactly(2);
+    }
+
+    @Test
+    void releaseAndRemoveUpdateTheAssignmentOrder() {
+        DestinationShipLoads loads = DestinationShipLoads.of(List.of(load(1, 3, 10), load(2, 2, 10), load(3, 4, 10)));
+
+        loads.release(3);
+        loads.release(3);
+        loads.remove(2);
+
+        assertThat(loads.getShips()).extracting(ShipLoad::getShipId).containsExactly(3, 1);
+        assertThat(loads.assignNext()).get().extracting(ShipLoad::getShipId).isEqualTo(3);
+    }
+
+    private ShipLoad load(int shipId, int totalOrders, int maxCapacity) {
+        return new ShipLoad(shipId, totalOrders, maxCapacity, DEPARTURE);
+    }
+}